@@ -28,9 +28,9 @@ const resolves = {
             console.log(`${new Date().toISOString()} : findMyBoards processing`);
             return context.boardServiceProxy.findMyBoards(context.token.accessToken, page, size);
         },
-        searchBoard: (_, {writer, subject, category, page, size}, context) => {
+        searchBoard: (_, {writer, subject, keyword, category, rank, highlight, page, size}, context) => {
             console.log(`${new Date().toISOString()} : searchBoard processing`);
-            return context.boardServiceProxy.searchBoard(writer, subject, category, page, size);
+            return context.boardServiceProxy.searchBoard(writer, subject, keyword, category, rank, highlight, page, size);
         },
         bestBoard: (_, {minDate, maxDate, size, category}, context) => {
             console.log(`${new Date().toISOString()} : bestBoard processing`);
@@ -68,9 +68,9 @@ const resolves = {
             console.log(`${new Date().toISOString()} : findReport processing`);
             return context.weClassServiceProxy.findReport(context.token.accessToken, id);
         },
-        searchProject: (_, {subject, state, category, username, page, size}, context) => {
+        searchProject: (_, {subject, state, category, username, page, size, after, count}, context) => {
             console.log(`${new Date().toISOString()} : searchProject processing`);
-            return context.projectServiceProxy.searchProject(subject, state, category, username, page, size);
+            return context.projectServiceProxy.searchProject(subject, state, category, username, page, size, after, count);
         },
         bestProject: (_, {minDate, maxDate, size, category}, context) => {
             console.log(`${new Date().toISOString()} : bestProject processing`);
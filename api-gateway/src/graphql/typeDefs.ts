@@ -14,7 +14,9 @@ const typeDefs = `
         category: String,
         readCount: Float,
         recommendCount: Float,
+        commentCount: Float,
         createdTime: String,
+        highlight: String,
         comments: CommentPage
     }
     
@@ -46,7 +48,8 @@ const typeDefs = `
         size: Int,
         totalElements: Int,
         totalPages: Int,
-        number: Int
+        number: Int,
+        totalCapped: Boolean
     }
     
     type Team {
@@ -103,7 +106,8 @@ const typeDefs = `
     
     type ProjectPage {
         projects: [Project],
-        page: Page
+        page: Page,
+        next: Float
     }
     
     type ProjectDetail {
@@ -122,7 +126,7 @@ const typeDefs = `
         isNickname(nickname: String!): Boolean
         findBoard(id: Float!, size: Int): Board
         findMyBoards(page: Int, size: Int): BoardPage
-        searchBoard(writer: String, subject: String, category: String, page: Float, size: Float): BoardPage
+        searchBoard(writer: String, subject: String, keyword: String, category: String, rank: Boolean, highlight: Boolean, page: Float, size: Float): BoardPage
         bestBoard(minDate: String!, maxDate: String!, size: Int!, category: String): [Board]
         findComments(id: Float!, page: Int, size: Int): CommentPage
         findMyNotifications(page: Int, size: Int): NotificationPage
@@ -131,7 +135,7 @@ const typeDefs = `
         findWeClass(id: Float!, size: Int): WeClass
         findReports(id: Float!, page: Int, size: Int): ReportPage
         findReport(id: Float!): Report
-        searchProject(subject: String, state: String, category: String, username: String, page: Int, size: Int): ProjectPage
+        searchProject(subject: String, state: String, category: String, username: String, page: Int, size: Int, after: Float, count: String): ProjectPage
         bestProject(minDate: String!, maxDate: String!, size: Int!, category: String): [Project]
         findMyProject(page: Int, size: Int): ProjectPage
         findProject(id: Float!, size: Int): ProjectDetail
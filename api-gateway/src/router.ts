@@ -32,13 +32,20 @@ router.get('/authenticate', (req, res) => {
         });
 });
 
-router.get('/images', async (req, res) => {
-    if(req.query.path) {
-        res.status(400).json({error: '경로를 입력해주세요.'});
-        return;
-    }
-    const response = await fetch(`${config.board_uri}/images/${req.query.path}`);
-    return await response.blob();
-})
+router.get('/images/:contentId', async (req, res) => {
+    const headers: { [key: string]: string } = {};
+    ['range', 'if-none-match', 'if-range'].forEach(name => {
+        const value = req.header(name);
+        if(value) headers[name] = value;
+    });
+    const variant = req.query.variant ? `?variant=${encodeURIComponent(String(req.query.variant))}` : '';
+    const response = await fetch(`${config.board_uri}/boards/attachments/${encodeURIComponent(req.params.contentId)}${variant}`, { headers });
+    res.status(response.status);
+    ['content-type', 'content-length', 'content-range', 'content-disposition', 'accept-ranges', 'etag', 'cache-control', 'x-content-type-options'].forEach(name => {
+        const value = response.headers.get(name);
+        if(value) res.setHeader(name, value);
+    });
+    response.body.pipe(res);
+});
 
 export default router;
\ No newline at end of file
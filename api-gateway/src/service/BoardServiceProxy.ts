@@ -51,8 +51,8 @@ class BoardServiceProxy {
         }
     }
 
-    async searchBoard(writer: string, subject: string, category: string, page: number, size: number) {
-        const response = await fetch(withQuery(`${this.boardService}`, {writer, subject, category, page, size}), {
+    async searchBoard(writer: string, subject: string, keyword: string, category: string, rank: boolean, highlight: boolean, page: number, size: number) {
+        const response = await fetch(withQuery(`${this.boardService}`, {writer, subject, keyword, category, rank, highlight, page, size}), {
             headers: {
                 'Content-Type': 'application/json'
             }
@@ -51,8 +51,8 @@ class ProjectServiceProxy {
         }
     }
 
-    async searchProject(subject: string, projectState: string, boardCategory: string, username: number, page: number, size: number) {
-        const response = await fetch(withQuery(`${this.projectService}/search`, {subject, projectState, boardCategory, username, page, size}), {
+    async searchProject(subject: string, projectState: string, boardCategory: string, username: number, page: number, size: number, after: number, count: string) {
+        const response = await fetch(withQuery(`${this.projectService}/search`, {subject, projectState, boardCategory, username, page, size, after, count}), {
             headers: {
                 'Content-Type': 'application/json'
             }
@@ -60,7 +60,9 @@ class ProjectServiceProxy {
         let result = await response.json();
         if(response.ok) {
             if(result._embedded != undefined) {
-                result = {projects: result._embedded.projectSearchResponseList, page: result.page};
+                const projects = result._embedded.projectSearchResponseList;
+                const next = (result._links != undefined && result._links.next != undefined) ? projects[projects.length - 1].id : null;
+                result = {projects, page: result.page, next};
             }else {
                 result = {page: result.page};
             }
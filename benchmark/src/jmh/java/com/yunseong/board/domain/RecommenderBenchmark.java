@@ -0,0 +1,39 @@
+package com.yunseong.board.domain;
+
+import com.yunseong.board.api.events.BoardAddRecommendEvent;
+import com.yunseong.common.DayBucket;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecommenderBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private Recommender recommender;
+    private DayBucket dayBucket;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        this.recommender = new Recommender();
+        this.dayBucket = new DayBucket(Clock.systemDefaultZone());
+        Field id = Recommender.class.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(this.recommender, 1L);
+        long today = this.dayBucket.today();
+        for (long day = today - this.size; day < today; day++) {
+            this.recommender.getRecommendStatistics().put(day, new RecommendStatistics(day, this.dayBucket.startOf(day), this.recommender));
+        }
+    }
+
+    @Benchmark
+    public BoardAddRecommendEvent addRecommender() {
+        return this.recommender.addRecommender(this.dayBucket);
+    }
+}
@@ -0,0 +1,36 @@
+package com.yunseong.common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AES256UtilBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private AES256Util aes256Util;
+    private String plain;
+    private String encrypted;
+
+    @Setup(Level.Trial)
+    public void setUp() throws GeneralSecurityException {
+        this.aes256Util = new AES256Util();
+        this.plain = "a".repeat(this.size);
+        this.encrypted = this.aes256Util.encrypt(this.plain);
+    }
+
+    @Benchmark
+    public String encrypt() throws GeneralSecurityException {
+        return this.aes256Util.encrypt(this.plain);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return this.aes256Util.decrypt(this.encrypted);
+    }
+}
@@ -0,0 +1,28 @@
+package com.yunseong.notification.messagehandlers;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotificationMailBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private String content;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.content = IntStream.range(0, this.size).mapToObj(i -> "프로젝트 알림 내용 " + i).collect(Collectors.joining("|"));
+    }
+
+    @Benchmark
+    public String toMailContent() {
+        return NotificationServiceEventConsumer.toMailContent("(1)프로젝트 알림", this.content);
+    }
+}
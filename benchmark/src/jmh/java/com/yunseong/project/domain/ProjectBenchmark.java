@@ -0,0 +1,36 @@
+package com.yunseong.project.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private Project project;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.project = new Project(true, new Date());
+        for (int i = 0; i < this.size; i++) this.project.addMember("user" + i);
+    }
+
+    @Benchmark
+    public Project addExistingMember() {
+        this.project.addMember("user" + (this.size - 1));
+        return this.project;
+    }
+
+    @Benchmark
+    public Project addAndRemoveMember() {
+        this.project.addMember("newcomer");
+        this.project.removeMember("newcomer");
+        return this.project;
+    }
+}
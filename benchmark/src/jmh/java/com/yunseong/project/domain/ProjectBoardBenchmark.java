@@ -0,0 +1,38 @@
+package com.yunseong.project.domain;
+
+import com.yunseong.board.api.BoardCategory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectBoardBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ProjectBoard projectBoard;
+    private Date today;
+    private long value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.projectBoard = new ProjectBoard("writer", "subject", BoardCategory.values()[0]);
+        LocalDate now = LocalDate.now();
+        for (int i = this.size; i >= 0; i--) {
+            Date day = Date.from(now.minusDays(i).atStartOfDay(ZoneId.systemDefault()).toInstant());
+            this.projectBoard.getRecommendStatistics().add(new ProjectRecommendStatistics(day, 1, this.projectBoard));
+        }
+        this.today = Date.from(now.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    @Benchmark
+    public long addRecommend() {
+        return this.projectBoard.addRecommend(this.today, ++this.value);
+    }
+}
@@ -0,0 +1,95 @@
+package com.yunseong.team.domain;
+
+import com.yunseong.project.api.event.TeamEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(batchSize = TeamBenchmark.BATCH)
+@Measurement(batchSize = TeamBenchmark.BATCH)
+public class TeamBenchmark {
+
+    static final int BATCH = 256;
+
+    @State(Scope.Thread)
+    public abstract static class TeamPool {
+
+        @Param({"10", "100", "1000"})
+        protected int size;
+
+        private final Team[] teams = new Team[BATCH];
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws ReflectiveOperationException {
+            for (int i = 0; i < BATCH; i++) this.teams[i] = this.build();
+            this.next = 0;
+        }
+
+        Team next() {
+            return this.teams[this.next++];
+        }
+
+        abstract Team build() throws ReflectiveOperationException;
+    }
+
+    @State(Scope.Thread)
+    public static class Recruiting extends TeamPool {
+
+        @Override
+        Team build() throws ReflectiveOperationException {
+            return team(this.size + 2, this.size - 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Voting extends TeamPool {
+
+        @Override
+        Team build() throws ReflectiveOperationException {
+            Team team = team(this.size, this.size - 1);
+            for (int i = 0; i < this.size - 3; i++) team.memberApprove("user" + i);
+            return team;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class LastVote extends TeamPool {
+
+        @Override
+        Team build() throws ReflectiveOperationException {
+            Team team = team(this.size, this.size - 1);
+            for (int i = 0; i < this.size - 2; i++) team.memberApprove("user" + i);
+            team.memberApprove("leader");
+            return team;
+        }
+    }
+
+    @Benchmark
+    public List<TeamEvent> join(Recruiting recruiting) {
+        return recruiting.next().join("newcomer");
+    }
+
+    @Benchmark
+    public List<TeamEvent> memberApprove(Voting voting) {
+        return voting.next().memberApprove("user" + (voting.size - 3));
+    }
+
+    @Benchmark
+    public List<TeamEvent> memberApproveCompletingVote(LastVote lastVote) {
+        return lastVote.next().memberApprove("user" + (lastVote.size - 2));
+    }
+
+    private static Team team(int maxSize, int members) throws ReflectiveOperationException {
+        Team team = new Team(1L, "leader", 1, maxSize);
+        Field id = Team.class.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(team, 1L);
+        for (int i = 0; i < members; i++) team.join("user" + i);
+        return team;
+    }
+}
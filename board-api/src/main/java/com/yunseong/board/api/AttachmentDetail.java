@@ -0,0 +1,18 @@
+package com.yunseong.board.api;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class AttachmentDetail {
+
+    private String stagedId;
+    private String contentId;
+    private String filename;
+    private String contentType;
+    private long size;
+}
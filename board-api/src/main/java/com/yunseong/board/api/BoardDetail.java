@@ -4,7 +4,8 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -15,5 +16,5 @@ public class BoardDetail {
     private String subject;
     private String content;
     private BoardCategory boardCategory;
-    private MultipartFile[] images;
+    private List<AttachmentDetail> attachments;
 }
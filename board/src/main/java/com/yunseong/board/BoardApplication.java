@@ -1,19 +1,28 @@
 package com.yunseong.board;
 
+import com.yunseong.board.config.BoardBatchConfiguration;
+import com.yunseong.board.config.BoardCacheConfiguration;
 import com.yunseong.board.config.BoardMessageHandlersConfiguration;
+import com.yunseong.board.config.BoardRankingConfiguration;
+import com.yunseong.board.config.BoardReadCountConfiguration;
+import com.yunseong.board.config.BoardSearchConfiguration;
 import com.yunseong.board.config.MethodSecurityConfiguration;
 import com.yunseong.board.config.OAuth2Configuration;
+import com.yunseong.common.CommonConfiguration;
+import com.yunseong.common.storage.StorageConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication(exclude = UserDetailsServiceAutoConfiguration.class)
-@EnableConfigurationProperties(value = { OAuth2Configuration.class })
-@Import(BoardMessageHandlersConfiguration.class)
+@EnableConfigurationProperties(value = { OAuth2Configuration.class, BoardReadCountConfiguration.class, BoardCacheConfiguration.class, BoardSearchConfiguration.class, BoardRankingConfiguration.class, BoardBatchConfiguration.class })
+@Import({BoardMessageHandlersConfiguration.class, CommonConfiguration.class, StorageConfiguration.class})
 public class BoardApplication {
 
     public static void main(String[] args) {
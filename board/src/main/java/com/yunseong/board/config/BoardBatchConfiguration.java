@@ -0,0 +1,14 @@
+package com.yunseong.board.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "batch")
+public class BoardBatchConfiguration {
+
+    private int chunkSize = 500;
+    private Duration processedRetention = Duration.ofDays(7);
+}
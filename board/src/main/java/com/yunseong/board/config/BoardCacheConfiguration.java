@@ -0,0 +1,11 @@
+package com.yunseong.board.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "cache.recommender")
+public class BoardCacheConfiguration {
+
+    private long maximumSize = 100000;
+}
@@ -0,0 +1,19 @@
+package com.yunseong.board.config;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+public class BoardMetadataBuilderContributor implements MetadataBuilderContributor {
+
+    @Override
+    public void contribute(MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction("match_against",
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "match (?1) against (?2 in boolean mode)"));
+        metadataBuilder.applySqlFunction("match_against3",
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "match (?1, ?2, ?3) against (?4 in boolean mode)"));
+        metadataBuilder.applySqlFunction("half_life_sum",
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "sum(?1 * power(0.5, (?2 - ?3) / ?4))"));
+    }
+}
@@ -0,0 +1,12 @@
+package com.yunseong.board.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "ranking")
+public class BoardRankingConfiguration {
+
+    private int retentionDays = 30;
+    private double halfLifeDays = 7;
+}
@@ -0,0 +1,11 @@
+package com.yunseong.board.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "read-count")
+public class BoardReadCountConfiguration {
+
+    private long maxPending = 10000;
+}
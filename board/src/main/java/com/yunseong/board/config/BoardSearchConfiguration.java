@@ -0,0 +1,11 @@
+package com.yunseong.board.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "search")
+public class BoardSearchConfiguration {
+
+    private int minTokenSize = 2;
+}
@@ -0,0 +1,20 @@
+package com.yunseong.board.controller;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class AttachmentResponse {
+
+    private String contentId;
+    private String filename;
+    private String contentType;
+    private long size;
+    private LocalDateTime createdTime;
+}
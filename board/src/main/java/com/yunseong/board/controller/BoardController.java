@@ -1,5 +1,6 @@
 package com.yunseong.board.controller;
 
+import com.yunseong.board.domain.Attachment;
 import com.yunseong.board.domain.Board;
 import com.yunseong.board.domain.BoardRevision;
 import com.yunseong.board.domain.Comment;
@@ -10,23 +11,30 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.hateoas.PagedModel;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.core.io.PathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.*;
 import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping(value = "/boards")
 @AllArgsConstructor
 public class BoardController {
 
+    private static final String IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().getHeaderValue() + ", immutable";
+    private static final Set<MediaType> INLINE_TYPES = Set.of(MediaType.IMAGE_PNG, MediaType.IMAGE_JPEG, MediaType.IMAGE_GIF, MediaType.parseMediaType("image/webp"));
+
     private final BoardService boardService;
     private final FileService fileService;
 
@@ -66,6 +74,32 @@ public class BoardController {
         return ResponseEntity.ok(model);
     }
 
+    @GetMapping("/{id}/attachments")
+    @PreAuthorize("(isAnonymous() and @boardService.getCategory(#id).readPermission.name() == 'ANONYMOUS') or (#oauth2.hasScope('board_read') and hasRole('ROLE_' + @boardService.getCategory(#id).readPermission.name()))")
+    public ResponseEntity<List<AttachmentResponse>> findAttachmentsByBoard(@PathVariable long id) {
+        return ResponseEntity.ok(this.fileService.findAttachments(id).stream()
+                .map(a -> new AttachmentResponse(a.getContentId(), a.getFilename(), a.getContentType(), a.getSize(), a.getCreatedTime()))
+                .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/{id}/attachments/{contentId}")
+    @PreAuthorize("(isAnonymous() and @boardService.getCategory(#id).readPermission.name() == 'ANONYMOUS') or (#oauth2.hasScope('board_read') and hasRole('ROLE_' + @boardService.getCategory(#id).readPermission.name()))")
+    public ResponseEntity<Resource> downloadAttachment(@PathVariable long id, @PathVariable String contentId, @RequestParam(required = false) String variant) {
+        Attachment attachment = this.fileService.findAttachment(id, contentId);
+        PathResource resource = new PathResource(this.fileService.findFile(contentId, variant));
+        MediaType mediaType = variant == null ? this.mediaTypeOf(attachment) : MediaType.IMAGE_JPEG;
+        ContentDisposition.Builder disposition = ContentDisposition.builder(INLINE_TYPES.contains(new MediaType(mediaType.getType(), mediaType.getSubtype())) ? "inline" : "attachment");
+        if (attachment.getFilename() != null) disposition.filename(attachment.getFilename(), StandardCharsets.UTF_8);
+        return ResponseEntity.ok()
+                .eTag(variant == null ? contentId : contentId + "-" + variant)
+                .header(HttpHeaders.CACHE_CONTROL, IMMUTABLE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.build().toString())
+                .header("X-Content-Type-Options", "nosniff")
+                .header("Content-Security-Policy", "sandbox")
+                .contentType(mediaType)
+                .body(resource);
+    }
+
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("#oauth2.hasScope('board_write') and hasRole('ROLE_' + #request.category.writePermission.name())")
     public ResponseEntity<Long> createBoard(@ModelAttribute BoardCreateRequest request, @RequestPart(required = false, name = "file") MultipartFile[] files, Principal principal) {
@@ -112,4 +146,12 @@ public class BoardController {
         this.boardService.deleteComment(id, principal.getName());
         return ResponseEntity.noContent().build();
     }
+
+    private MediaType mediaTypeOf(Attachment attachment) {
+        try {
+            if (attachment.getContentType() != null) return MediaType.parseMediaType(attachment.getContentType());
+        } catch (InvalidMediaTypeException ignored) {
+        }
+        return MediaTypeFactory.getMediaType(attachment.getFilename()).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
 }
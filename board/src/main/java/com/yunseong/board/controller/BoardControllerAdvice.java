@@ -1,10 +1,13 @@
 package com.yunseong.board.controller;
 
 import com.yunseong.board.service.AlreadyRecommendedException;
+import com.yunseong.board.service.AttachmentNotFoundException;
 import com.yunseong.board.service.CannotRecommendByWriterException;
 import com.yunseong.common.AlreadyExistedElementException;
 import com.yunseong.common.CannotReviseBoardIfWriterNotWereException;
+import com.yunseong.common.storage.BlobStoreException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.validation.BeanPropertyBindingResult;
@@ -65,4 +68,18 @@ public class BoardControllerAdvice {
         errors.reject("cannot revise board if writer not were", exception.getMessage());
         return ResponseEntity.badRequest().body(errors.getAllErrors());
     }
+
+    @ExceptionHandler(BlobStoreException.class)
+    public ResponseEntity<?> handleBlobStoreException(BlobStoreException exception) {
+        Errors errors = new BeanPropertyBindingResult(null, "");
+        errors.reject("file", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errors.getAllErrors());
+    }
+
+    @ExceptionHandler(AttachmentNotFoundException.class)
+    public ResponseEntity<?> handleAttachmentNotFoundException(AttachmentNotFoundException exception) {
+        Errors errors = new BeanPropertyBindingResult(null, "");
+        errors.reject("attachment not found", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errors.getAllErrors());
+    }
 }
@@ -22,6 +22,7 @@ public class BoardDetailResponse {
     private BoardCategory category;
     private long readCount;
     private long recommendCount;
+    private long commentCount;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
     private LocalDateTime createdTime;
 }
@@ -13,5 +13,8 @@ public class BoardSearchCondition {
 
     private String writer;
     private String subject;
+    private String keyword;
     private BoardCategory category;
+    private boolean rank;
+    private boolean highlight;
 }
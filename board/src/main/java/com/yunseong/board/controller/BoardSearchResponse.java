@@ -23,4 +23,5 @@ public class BoardSearchResponse {
     private long recommendCount;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
     private LocalDateTime createdTime;
+    private String highlight;
 }
@@ -0,0 +1,47 @@
+package com.yunseong.board.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(indexes = {
+        @Index(name = "idx_attachment_board_content", columnList = "boardId, contentId")
+})
+public class Attachment {
+
+    @Id
+    @GeneratedValue
+    @Column(name = "attachment_id")
+    private Long id;
+
+    private long boardId;
+
+    @Column(length = 64)
+    private String contentId;
+
+    private String filename;
+
+    private String contentType;
+
+    private long size;
+
+    @CreatedDate
+    private LocalDateTime createdTime;
+
+    public Attachment(long boardId, String contentId, String filename, String contentType, long size) {
+        this.boardId = boardId;
+        this.contentId = contentId;
+        this.filename = filename;
+        this.contentType = contentType;
+        this.size = size;
+    }
+}
@@ -0,0 +1,13 @@
+package com.yunseong.board.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    List<Attachment> findByBoardId(long boardId);
+
+    Optional<Attachment> findFirstByBoardIdAndContentId(long boardId, String contentId);
+}
@@ -2,7 +2,6 @@ package com.yunseong.board.domain;
 
 
 import com.yunseong.board.api.BoardCategory;
-import com.yunseong.board.api.events.BoardAddRecommendEvent;
 import com.yunseong.common.AlreadyExistedElementException;
 import com.yunseong.common.CannotReviseBoardIfWriterNotWereException;
 import io.eventuate.tram.events.common.DomainEvent;
@@ -12,7 +11,6 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
-import java.text.ParseException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -38,8 +36,12 @@ public class Board {
     @Column(name = "content", columnDefinition = "MEDIUMTEXT")
     private String content;
 
+    @Column(updatable = false)
     private long readCount;
 
+    @Column(updatable = false)
+    private long commentCount;
+
     @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "recommender_name")
     private Recommender recommender;
@@ -68,10 +70,6 @@ public class Board {
         this.recommender = new Recommender();
     }
 
-    public BoardAddRecommendEvent addRecommend(String username) throws ParseException {
-        return this.recommender.addRecommender(username);
-    }
-
     public void revise(String writer, BoardRevision boardRevision) {
         if(!this.writer.equals(writer)) throw new CannotReviseBoardIfWriterNotWereException("작성자가 아니면 수정할 수 없습니다");
         this.subject = boardRevision.getSubject();
@@ -82,8 +80,4 @@ public class Board {
         if(!this.writer.equals(writer)) throw new CannotReviseBoardIfWriterNotWereException("작성자가 아니면 삭제할 수 없습니다");
         this.isDelete = true;
     }
-
-    public void addReadCount() {
-        this.readCount+=1;
-    }
 }
@@ -1,16 +1,27 @@
 package com.yunseong.board.domain;
 
+import com.yunseong.board.api.BoardCategory;
 import com.yunseong.board.controller.BoardSearchCondition;
 import com.yunseong.board.controller.BoardSearchResponse;
-import com.yunseong.board.controller.HotBoardSearchCondition;
+import com.yunseong.common.ranking.RankedItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface BoardQueryRepository {
 
     Page<Board> findPageByQuery(BoardSearchCondition condition, Pageable pageable);
 
-    List<Board> findHotBoards(HotBoardSearchCondition condition);
+    List<BoardRecommendSnapshot> findRecommendSnapshots(long sinceEpochDay);
+
+    List<BoardRecommendSnapshot> findRecommendSnapshots(long sinceEpochDay, Collection<Long> boardIds);
+
+    List<RankedItem> findHotBoards(BoardCategory boardCategory, long minEpochDay, long maxEpochDay, int size, double halfLifeDays);
+
+    void addReadCounts(Map<Long, Long> readCounts);
+
+    int updateDeleted(List<Long> boardIds, boolean deleted);
 }
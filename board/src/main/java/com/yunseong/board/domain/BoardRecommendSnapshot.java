@@ -0,0 +1,15 @@
+package com.yunseong.board.domain;
+
+import com.yunseong.board.api.BoardCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BoardRecommendSnapshot {
+
+    private final long boardId;
+    private final BoardCategory boardCategory;
+    private final long epochDay;
+    private final long value;
+}
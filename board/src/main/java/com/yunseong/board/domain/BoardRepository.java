@@ -6,23 +6,35 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Board, Long>, BoardQueryRepository {
 
-    @Query("select distinct b from Board b inner join fetch b.recommender br left join fetch br.recommender brr where b.id = :id and b.isDelete = false")
+    @Query("select b from Board b inner join fetch b.recommender br where b.id = :id and b.isDelete = false")
     Optional<Board> findFetchById(long id);
 
-    @Query(value = "select distinct b from Board b inner join fetch b.recommender br left join fetch br.recommender brr where b.isDelete = false and b.writer = :username and b.isDifferent = false order by b.id desc",
+    @Query(value = "select b from Board b inner join fetch b.recommender br where b.isDelete = false and b.writer = :username and b.isDifferent = false order by b.id desc",
         countQuery = "select count(b) from Board b where b.isDelete = false and b.writer = :username and b.isDifferent = false")
     Page<Board> findMyBoards(String username, Pageable pageable);
 
     @Modifying
-    @Query("update Board b set b.isDelete = false where b.id in(:ids)")
-    void batchUndoUpdate(List<Long> ids);
+    @Query(value = "insert ignore into recommenders (board_id, recommender) values (:recommenderId, :username)", nativeQuery = true)
+    int addRecommender(long recommenderId, String username);
 
     @Modifying
-    @Query("update Board b set b.isDelete = true where b.id in(:ids)")
-    void batchUpdate(List<Long> ids);
+    @Query("update Recommender r set r.recommendCount = r.recommendCount + 1 where r.id = :recommenderId")
+    int addRecommendCount(long recommenderId);
+
+    @Modifying
+    @Query(value = "insert into recommend_statistics (recommender_name, epoch_day, recommend_date, value) values (:recommenderId, :epochDay, :recommendDate, 1) on duplicate key update value = value + 1", nativeQuery = true)
+    int addRecommendStatistics(long recommenderId, long epochDay, Date recommendDate);
+
+    @Query("select s.value from RecommendStatistics s where s.recommender.id = :recommenderId and s.epochDay = :epochDay")
+    long findRecommendValue(long recommenderId, long epochDay);
+
+    @Modifying
+    @Query("update Board b set b.commentCount = b.commentCount + :delta where b.id = :id")
+    int addCommentCount(long id, long delta);
 }
@@ -1,20 +1,31 @@
 package com.yunseong.board.domain;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.yunseong.board.api.BoardCategory;
+import com.yunseong.board.config.BoardSearchConfiguration;
 import com.yunseong.board.controller.BoardSearchCondition;
-import com.yunseong.board.controller.HotBoardSearchCondition;
+import com.yunseong.common.ranking.RankedItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import javax.persistence.EntityManager;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.yunseong.board.domain.QBoard.board;
 import static com.yunseong.board.domain.QRecommendStatistics.recommendStatistics;
@@ -23,22 +34,46 @@ import static com.yunseong.board.domain.QRecommendStatistics.recommendStatistics
 public class BoardRepositoryImpl implements BoardQueryRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
     private final QRecommender recommender = new QRecommender("myRecommender");
+    private final int minTokenSize;
 
-    public BoardRepositoryImpl(EntityManager entityManager) {
+    public BoardRepositoryImpl(EntityManager entityManager, JdbcTemplate jdbcTemplate, BoardSearchConfiguration boardSearchConfiguration) {
         this.jpaQueryFactory = new JPAQueryFactory(entityManager);
+        this.jdbcTemplate = jdbcTemplate;
+        this.minTokenSize = boardSearchConfiguration.getMinTokenSize();
+    }
+
+    @Override
+    @Transactional
+    public void addReadCounts(Map<Long, Long> readCounts) {
+        List<Object[]> args = readCounts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> new Object[] { e.getValue(), e.getKey() })
+                .collect(Collectors.toList());
+        this.jdbcTemplate.batchUpdate("update board set read_count = read_count + ? where board_id = ?", args);
+    }
+
+    @Override
+    public int updateDeleted(List<Long> boardIds, boolean deleted) {
+        List<Object[]> args = boardIds.stream().map(id -> new Object[] { deleted, id }).collect(Collectors.toList());
+        return Arrays.stream(this.jdbcTemplate.batchUpdate("update board set is_delete = ? where board_id = ?", args))
+                .map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0))
+                .sum();
     }
 
     @Override
     public Page<Board> findPageByQuery(BoardSearchCondition condition, Pageable pageable) {
-        StringPath sRecommender = Expressions.stringPath("sRecommender");
-        List<Board> content = this.jpaQueryFactory
-                .select(board).distinct()
+        BooleanExpression[] predicates = this.searchPredicates(condition);
+        NumberExpression<Double> score = this.keywordScore(condition.getKeyword());
+        JPAQuery<Board> query = this.jpaQueryFactory
+                .select(board)
                 .from(board)
-                .where(board.isDelete.isFalse(), board.isDifferent.isFalse(), eqCategory(condition.getCategory()), containsSubject(condition), containsWriter(condition))
-                .innerJoin(board.recommender, recommender).fetchJoin()
-                .leftJoin(recommender.recommender, sRecommender).fetchJoin()
-                .orderBy(board.id.desc())
+                .where(predicates)
+                .innerJoin(board.recommender, recommender).fetchJoin();
+        if(condition.isRank() && score != null) query.orderBy(score.desc(), board.id.desc());
+        else query.orderBy(board.id.desc());
+        List<Board> content = query
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -46,28 +81,81 @@ public class BoardRepositoryImpl implements BoardQueryRepository {
                 this.jpaQueryFactory
                         .select(board.count())
                         .from(board)
-                        .where(eqCategory(condition.getCategory()), containsSubject(condition), containsWriter(condition), board.isDelete.isFalse())::fetchCount);
+                        .where(predicates)::fetchCount);
     }
 
     @Override
-    public List<Board> findHotBoards(HotBoardSearchCondition condition) {
+    public List<BoardRecommendSnapshot> findRecommendSnapshots(long sinceEpochDay) {
+        return this.findRecommendSnapshots(recommendStatistics.epochDay.goe(sinceEpochDay));
+    }
+
+    @Override
+    public List<BoardRecommendSnapshot> findRecommendSnapshots(long sinceEpochDay, Collection<Long> boardIds) {
+        if(boardIds.isEmpty()) return Collections.emptyList();
+        return this.findRecommendSnapshots(recommendStatistics.epochDay.goe(sinceEpochDay), board.id.in(boardIds));
+    }
+
+    @Override
+    public List<RankedItem> findHotBoards(BoardCategory boardCategory, long minEpochDay, long maxEpochDay, int size, double halfLifeDays) {
+        NumberExpression<Long> total = recommendStatistics.value.sum();
+        NumberExpression<Double> score = halfLifeDays > 0
+                ? Expressions.numberTemplate(Double.class, "function('half_life_sum', {0}, {1}, {2}, {3})", recommendStatistics.value, maxEpochDay, recommendStatistics.epochDay, halfLifeDays)
+                : total.doubleValue();
         return this.jpaQueryFactory
-                .select(board).distinct()
+                .select(board.id, score, total)
                 .from(board)
-                .where(this.eqCategory(condition.getCategory()), recommendStatistics.recommendDate.between(condition.getMinDate(), condition.getMaxDate()))
-                .innerJoin(board.recommender, recommender).fetchJoin()
-                .innerJoin(recommender.recommendStatistics, recommendStatistics).fetchJoin()
+                .innerJoin(recommendStatistics).on(recommendStatistics.recommender.eq(board.recommender))
+                .where(board.isDelete.isFalse(), eqCategory(boardCategory), recommendStatistics.epochDay.between(minEpochDay, maxEpochDay))
                 .groupBy(board.id)
-                .orderBy(recommendStatistics.value.sum().desc())
-                .limit(condition.getSize()).fetch();
+                .orderBy(score.desc(), board.id.desc())
+                .limit(size)
+                .fetch()
+                .stream()
+                .map(t -> new RankedItem(t.get(board.id), t.get(score), t.get(total)))
+                .collect(Collectors.toList());
+    }
+
+    private List<BoardRecommendSnapshot> findRecommendSnapshots(BooleanExpression... predicates) {
+        return this.jpaQueryFactory
+                .select(Projections.constructor(BoardRecommendSnapshot.class, board.id, board.boardCategory, recommendStatistics.epochDay, recommendStatistics.value))
+                .from(board)
+                .innerJoin(recommendStatistics).on(recommendStatistics.recommender.eq(board.recommender))
+                .where(board.isDelete.isFalse())
+                .where(predicates)
+                .fetch();
+    }
+
+    private BooleanExpression[] searchPredicates(BoardSearchCondition condition) {
+        return new BooleanExpression[] { board.isDelete.isFalse(), board.isDifferent.isFalse(), eqCategory(condition.getCategory()),
+                matchWriter(condition.getWriter()), matchSubject(condition.getSubject()), matchKeyword(condition.getKeyword()) };
+    }
+
+    private BooleanExpression matchWriter(String writer) {
+        return StringUtils.hasText(writer) ? board.writer.contains(writer) : null;
+    }
+
+    private BooleanExpression matchSubject(String subject) {
+        if(!StringUtils.hasText(subject)) return null;
+        List<String> terms = SearchTerms.tokenize(subject);
+        if(!this.isIndexable(terms)) return board.subject.contains(subject);
+        return Expressions.numberTemplate(Double.class, "function('match_against', {0}, {1})", board.subject, SearchTerms.toBooleanQuery(terms)).gt(0.0);
+    }
+
+    private BooleanExpression matchKeyword(String keyword) {
+        if(!StringUtils.hasText(keyword)) return null;
+        NumberExpression<Double> score = this.keywordScore(keyword);
+        if(score == null) return board.subject.contains(keyword).or(board.content.contains(keyword)).or(board.writer.contains(keyword));
+        return score.gt(0.0);
     }
 
-    private BooleanExpression containsWriter(BoardSearchCondition condition) {
-        return (condition.getWriter() != null && StringUtils.hasText(condition.getWriter())) ? board.writer.contains(condition.getWriter()) : null;
+    private NumberExpression<Double> keywordScore(String keyword) {
+        List<String> terms = SearchTerms.tokenize(keyword);
+        if(!this.isIndexable(terms)) return null;
+        return Expressions.numberTemplate(Double.class, "function('match_against3', {0}, {1}, {2}, {3})", board.subject, board.content, board.writer, SearchTerms.toBooleanQuery(terms));
     }
 
-    private BooleanExpression containsSubject(BoardSearchCondition condition) {
-        return (condition.getSubject() != null && StringUtils.hasText(condition.getSubject())) ? board.subject.contains(condition.getSubject()) : null;
+    private boolean isIndexable(List<String> terms) {
+        return !terms.isEmpty() && terms.stream().allMatch(t -> t.length() >= this.minTokenSize);
     }
 
     private BooleanExpression eqCategory(BoardCategory category) {
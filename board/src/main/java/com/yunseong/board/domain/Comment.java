@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 @Getter
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
+@Table(indexes = @Index(name = "idx_comment_thread", columnList = "board_name, isDelete, root_id, comment_id"))
 public class Comment {
 
     @Id
@@ -32,6 +33,9 @@ public class Comment {
     @JoinColumn(name = "original_comment_name")
     private Comment originalComment;
 
+    @Column(name = "root_id")
+    private Long rootId;
+
     @Enumerated(EnumType.STRING)
     private CommentState commentState;
 
@@ -48,10 +52,16 @@ public class Comment {
         this.writer = writer;
         this.content = content;
         this.originalComment = originalComment;
+        this.rootId = originalComment != null ? originalComment.getId() : null;
         this.commentState = commentState;
         this.isDelete = false;
     }
 
+    @PostPersist
+    private void startThread() {
+        if(this.rootId == null) this.rootId = this.id;
+    }
+
     public void revise(String writer, String content) {
         if(!this.writer.equals(writer)) throw new CannotReviseBoardIfWriterNotWereException("작성자가 아니면 수정할 수 없습니다");
         this.content = content;
@@ -1,14 +1,14 @@
 package com.yunseong.board.domain;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.yunseong.board.controller.CommentReviseRequest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 
+import java.util.Collections;
 import java.util.List;
 
 import static com.yunseong.board.domain.QBoard.board;
@@ -25,22 +25,20 @@ public class CommentRepositoryImpl implements CommentQueryRepository {
 
     @Override
     public Page<Comment> findPage(long boardId, Pageable pageable) {
-        QComment original = new QComment("original");
+        Long total = this.jpaQueryFactory
+                .select(board.commentCount)
+                .from(board)
+                .where(board.id.eq(boardId), board.isDelete.isFalse())
+                .fetchOne();
+        if(total == null || total == 0) return new PageImpl<>(Collections.emptyList(), pageable, 0);
         List<Comment> result = this.jpaQueryFactory
                 .select(comment)
                 .from(comment)
-                .join(comment.board, board)
-                .leftJoin(comment.originalComment, original)
-                .where(comment.isDelete.isFalse(), board.id.eq(boardId), board.isDelete.isFalse())
-                .orderBy(original.id.coalesce(comment.id).asc(), comment.id.asc())
+                .where(comment.board.id.eq(boardId), comment.isDelete.isFalse())
+                .orderBy(comment.rootId.asc(), comment.id.asc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
-        return PageableExecutionUtils.getPage(result, pageable,
-                this.jpaQueryFactory
-                        .select(comment.count())
-                        .from(comment)
-                        .join(comment.board, board)
-                        .where(comment.isDelete.isFalse(), board.id.eq(boardId))::fetchCount);
+        return new PageImpl<>(result, pageable, total);
     }
 }
@@ -0,0 +1,21 @@
+package com.yunseong.board.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(indexes = @Index(name = "idx_processed_command_time", columnList = "processedTime"))
+public class ProcessedCommand {
+
+    @Id
+    @Column(length = 100)
+    private String messageId;
+
+    private LocalDateTime processedTime;
+}
@@ -0,0 +1,18 @@
+package com.yunseong.board.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+public interface ProcessedCommandRepository extends JpaRepository<ProcessedCommand, String> {
+
+    @Modifying
+    @Query(value = "insert ignore into processed_command (message_id, processed_time) values (:messageId, :processedTime)", nativeQuery = true)
+    int markProcessed(String messageId, LocalDateTime processedTime);
+
+    @Modifying
+    @Query("delete from ProcessedCommand p where p.processedTime < :before")
+    int deleteProcessedBefore(LocalDateTime before);
+}
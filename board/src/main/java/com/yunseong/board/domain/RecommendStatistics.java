@@ -7,6 +7,7 @@ import java.util.Date;
 
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_recommend_statistics_recommender_day", columnNames = {"recommender_name", "epoch_day"}))
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @RequiredArgsConstructor
 public class RecommendStatistics {
@@ -15,6 +16,9 @@ public class RecommendStatistics {
     @GeneratedValue
     private Long id;
 
+    @NonNull
+    private Long epochDay;
+
     @NonNull
     private Date recommendDate;
 
@@ -24,8 +28,4 @@ public class RecommendStatistics {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "recommender_name")
     private Recommender recommender;
-
-    public void addValue() {
-        this.value += 1;
-    }
 }
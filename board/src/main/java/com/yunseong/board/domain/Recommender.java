@@ -1,13 +1,11 @@
 package com.yunseong.board.domain;
 
-import com.yunseong.board.api.events.BoardAddRecommendEvent;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.*;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Getter
@@ -19,24 +17,10 @@ public class Recommender {
     private Long id;
 
     @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(name = "recommenders", joinColumns = @JoinColumn(name = "board_id"))
+    @CollectionTable(name = "recommenders", joinColumns = @JoinColumn(name = "board_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_recommenders_board_recommender", columnNames = {"board_id", "recommender"}))
     private final Set<String> recommender = new HashSet<>();
 
-    @OneToMany(fetch = FetchType.LAZY, mappedBy = "recommender", cascade = CascadeType.ALL)
-    private final List<RecommendStatistics> recommendStatistics = new ArrayList<>();
-
-    public BoardAddRecommendEvent addRecommender(String username) throws ParseException {
-        this.recommender.add(username);
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd");
-        Date now = simpleDateFormat.parse(simpleDateFormat.format(new Date()));
-        for(RecommendStatistics recommendStatistics : this.recommendStatistics) {
-            if(recommendStatistics.getRecommendDate().compareTo(now)==0) {
-                recommendStatistics.addValue();
-                return new BoardAddRecommendEvent(this.id, now, recommendStatistics.getValue());
-            }
-        }
-        RecommendStatistics recommendStatistics = new RecommendStatistics(now, this);
-        this.recommendStatistics.add(recommendStatistics);
-        return new BoardAddRecommendEvent(this.id, now, recommendStatistics.getValue());
-    }
+    @Column(updatable = false)
+    private long recommendCount;
 }
@@ -0,0 +1,26 @@
+package com.yunseong.board.domain;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class SearchTerms {
+
+    private SearchTerms() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if(!StringUtils.hasText(text)) return Collections.emptyList();
+        return Arrays.stream(text.split("[^\\p{L}\\p{N}_]+"))
+                .filter(StringUtils::hasLength)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    static String toBooleanQuery(List<String> terms) {
+        return terms.stream().map(t -> "+" + t + "*").collect(Collectors.joining(" "));
+    }
+}
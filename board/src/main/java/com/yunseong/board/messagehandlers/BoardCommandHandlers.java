@@ -6,6 +6,7 @@ import com.yunseong.board.api.command.*;
 import com.yunseong.board.controller.BoardCreateRequest;
 import com.yunseong.board.domain.Board;
 import com.yunseong.board.domain.BoardRevision;
+import com.yunseong.board.service.BoardBatchService;
 import com.yunseong.board.service.BoardService;
 import com.yunseong.board.service.FileService;
 import io.eventuate.tram.commands.consumer.CommandHandlers;
@@ -24,6 +25,8 @@ public class BoardCommandHandlers {
     private BoardService boardService;
     @Autowired
     private FileService fileService;
+    @Autowired
+    private BoardBatchService boardBatchService;
 
     public CommandHandlers commandHandler() {
         return SagaCommandHandlersBuilder
@@ -39,13 +42,17 @@ public class BoardCommandHandlers {
                 .build();
     }
 
-    private Message batchBoard(CommandMessage<BatchBoardCommand> batchBoardCommandCommandMessage) {
-        if(this.boardService.batchBoard(batchBoardCommandCommandMessage.getCommand().getBoardIds())) return withSuccess();
-        return withFailure();
+    private Message batchBoard(CommandMessage<BatchBoardCommand> cm) {
+        try {
+            this.boardBatchService.deleteBoards(cm.getMessageId(), cm.getCommand().getBoardIds());
+            return withSuccess();
+        } catch (Exception e) {
+            return withFailure();
+        }
     }
 
-    private Message batchUndoBoard(CommandMessage<BatchUndoBoardCommend> batchUndoBoardCommendCommandMessage) {
-        this.boardService.batchUndoBoard(batchUndoBoardCommendCommandMessage.getCommand().getBoardIds());
+    private Message batchUndoBoard(CommandMessage<BatchUndoBoardCommend> cm) {
+        this.boardBatchService.restoreBoards(cm.getMessageId(), cm.getCommand().getBoardIds());
         return withSuccess();
     }
 
@@ -54,7 +61,7 @@ public class BoardCommandHandlers {
         BoardDetail boardDetail = cm.getCommand().getBoardDetail();
         try {
             Board board = this.boardService.reviseBoard(command.getBoardId(), boardDetail.getWriter(), new BoardRevision(boardDetail.getSubject(), boardDetail.getContent()));
-            this.fileService.save(board.getId(), boardDetail.getImages());
+            this.fileService.attach(board.getId(), boardDetail.getAttachments());
             return withSuccess();
         } catch (Exception e) {
             return withFailure();
@@ -70,7 +77,7 @@ public class BoardCommandHandlers {
         BoardDetail boardDetail = cm.getCommand().getBoardDetail();
         try {
             Board board = this.boardService.createBoard(boardDetail.getWriter(), new BoardCreateRequest(boardDetail.getSubject(), boardDetail.getContent(), boardDetail.getBoardCategory()), true);
-            this.fileService.save(board.getId(), boardDetail.getImages());
+            this.fileService.attach(board.getId(), boardDetail.getAttachments());
             return withLock(Board.class, board.getId()).withSuccess(new CreateBoardReply(board.getId()));
         } catch (Exception e) {
             return withFailure();
@@ -0,0 +1,99 @@
+package com.yunseong.board.ranking;
+
+import com.yunseong.board.api.BoardCategory;
+import com.yunseong.board.config.BoardRankingConfiguration;
+import com.yunseong.board.domain.BoardRecommendSnapshot;
+import com.yunseong.board.domain.BoardRepository;
+import com.yunseong.common.DayBucket;
+import com.yunseong.common.ranking.CategoryRankings;
+import com.yunseong.common.ranking.DayRanking;
+import com.yunseong.common.ranking.RankedItem;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+@Component
+public class HotBoardRanking {
+
+    private final BoardRepository boardRepository;
+    private final DayBucket dayBucket;
+    private final int retention;
+    private final double halfLifeDays;
+    private final double[] weights;
+    private final CategoryRankings<BoardCategory> rankings;
+
+    public HotBoardRanking(BoardRepository boardRepository, BoardRankingConfiguration configuration, DayBucket dayBucket) {
+        this.boardRepository = boardRepository;
+        this.dayBucket = dayBucket;
+        this.retention = Math.max(1, configuration.getRetentionDays());
+        this.halfLifeDays = configuration.getHalfLifeDays();
+        this.weights = new double[this.retention];
+        for(int age = 0; age < this.retention; age++) {
+            this.weights[age] = this.halfLifeDays > 0 ? Math.pow(0.5, age / this.halfLifeDays) : 1;
+        }
+        this.rankings = new CategoryRankings<>(BoardCategory.class, () -> new DayRanking(this.retention, Collections.emptyList(), dayBucket.today()));
+    }
+
+    public void record(BoardCategory category, long boardId, Date recommendDate, long value) {
+        this.rankings.record(category, boardId, this.dayBucket.epochDay(recommendDate), value, this.dayBucket.today());
+    }
+
+    public void recordAfterCommit(BoardCategory category, long boardId, Date recommendDate, long value) {
+        this.afterCommit(() -> this.record(category, boardId, recommendDate, value));
+    }
+
+    public void removeAfterCommit(Collection<Long> boardIds) {
+        this.afterCommit(() -> this.rankings.remove(boardIds));
+    }
+
+    public void restoreAfterCommit(Collection<Long> boardIds) {
+        this.afterCommit(() -> {
+            long today = this.dayBucket.today();
+            for(BoardRecommendSnapshot snapshot : this.boardRepository.findRecommendSnapshots(today - this.retention + 1, boardIds)) {
+                this.rankings.record(snapshot.getBoardCategory(), snapshot.getBoardId(), snapshot.getEpochDay(), snapshot.getValue(), today);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<RankedItem> top(BoardCategory category, Date minDate, Date maxDate, int size) {
+        long today = this.dayBucket.today();
+        long since = today - this.retention + 1;
+        long min = minDate == null ? since : this.dayBucket.epochDay(minDate);
+        long max = maxDate == null ? today : Math.min(this.dayBucket.epochDay(maxDate), today);
+        if(size <= 0 || min > max) return Collections.emptyList();
+        if(min < since) return this.boardRepository.findHotBoards(category, min, max, size, this.halfLifeDays);
+        return this.rankings.top(category, min, max, size, this.weights, today);
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ranking.rebuild-interval:600000}", fixedDelayString = "${ranking.rebuild-interval:600000}")
+    public void rebuild() {
+        long today = this.dayBucket.today();
+        this.rankings.rebuild(rankings -> {
+            for(BoardRecommendSnapshot snapshot : this.boardRepository.findRecommendSnapshots(today - this.retention + 1)) {
+                rankings.get(snapshot.getBoardCategory()).record(snapshot.getBoardId(), snapshot.getEpochDay(), snapshot.getValue(), today);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
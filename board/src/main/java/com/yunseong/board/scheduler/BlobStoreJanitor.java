@@ -0,0 +1,20 @@
+package com.yunseong.board.scheduler;
+
+import com.yunseong.common.storage.BlobStore;
+import com.yunseong.common.storage.BlobStoreConfiguration;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class BlobStoreJanitor {
+
+    private final BlobStore blobStore;
+    private final BlobStoreConfiguration blobStoreConfiguration;
+
+    @Scheduled(fixedDelayString = "${storage.janitor-interval:3600000}")
+    public void purgeStaged() {
+        this.blobStore.purgeStaged(this.blobStoreConfiguration.getStagingTtl());
+    }
+}
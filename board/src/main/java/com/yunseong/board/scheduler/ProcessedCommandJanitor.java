@@ -0,0 +1,24 @@
+package com.yunseong.board.scheduler;
+
+import com.yunseong.board.config.BoardBatchConfiguration;
+import com.yunseong.board.service.BoardBatchService;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+@Component
+@AllArgsConstructor
+public class ProcessedCommandJanitor {
+
+    private final BoardBatchService boardBatchService;
+    private final BoardBatchConfiguration boardBatchConfiguration;
+    private final Clock clock;
+
+    @Scheduled(fixedDelayString = "${batch.janitor-interval:3600000}")
+    public void purgeProcessed() {
+        this.boardBatchService.purgeProcessed(LocalDateTime.now(this.clock).minus(this.boardBatchConfiguration.getProcessedRetention()));
+    }
+}
@@ -0,0 +1,8 @@
+package com.yunseong.board.service;
+
+public class AttachmentNotFoundException extends RuntimeException {
+
+    public AttachmentNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,70 @@
+package com.yunseong.board.service;
+
+import com.yunseong.board.config.BoardBatchConfiguration;
+import com.yunseong.board.domain.BoardRepository;
+import com.yunseong.board.domain.ProcessedCommandRepository;
+import com.yunseong.board.ranking.HotBoardRanking;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class BoardBatchService {
+
+    private final BoardRepository boardRepository;
+    private final ProcessedCommandRepository processedCommandRepository;
+    private final HotBoardRanking hotBoardRanking;
+    private final Clock clock;
+    private final int chunkSize;
+    private final MeterRegistry meterRegistry;
+
+    public BoardBatchService(BoardRepository boardRepository, ProcessedCommandRepository processedCommandRepository, HotBoardRanking hotBoardRanking,
+                             Clock clock, BoardBatchConfiguration boardBatchConfiguration, MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.processedCommandRepository = processedCommandRepository;
+        this.hotBoardRanking = hotBoardRanking;
+        this.clock = clock;
+        this.chunkSize = Math.max(1, boardBatchConfiguration.getChunkSize());
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean deleteBoards(String messageId, List<Long> boardIds) {
+        if(!this.markProcessed(messageId)) return false;
+        this.updateDeleted(boardIds, true, "delete");
+        this.hotBoardRanking.removeAfterCommit(boardIds);
+        return true;
+    }
+
+    public boolean restoreBoards(String messageId, List<Long> boardIds) {
+        if(!this.markProcessed(messageId)) return false;
+        this.updateDeleted(boardIds, false, "restore");
+        this.hotBoardRanking.restoreAfterCommit(boardIds);
+        return true;
+    }
+
+    public int purgeProcessed(LocalDateTime before) {
+        return this.processedCommandRepository.deleteProcessedBefore(before);
+    }
+
+    private boolean markProcessed(String messageId) {
+        return this.processedCommandRepository.markProcessed(messageId, LocalDateTime.now(this.clock)) > 0;
+    }
+
+    private void updateDeleted(List<Long> boardIds, boolean deleted, String operation) {
+        List<Long> ids = boardIds.stream().distinct().sorted().collect(Collectors.toList());
+        Timer latency = this.meterRegistry.timer("board.batch.chunk", "operation", operation);
+        DistributionSummary rows = this.meterRegistry.summary("board.batch.chunk.rows", "operation", operation);
+        for(int from = 0; from < ids.size(); from += this.chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + this.chunkSize, ids.size()));
+            rows.record(latency.record(() -> this.boardRepository.updateDeleted(chunk, deleted)));
+        }
+    }
+}
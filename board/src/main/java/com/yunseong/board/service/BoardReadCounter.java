@@ -0,0 +1,81 @@
+package com.yunseong.board.service;
+
+import com.yunseong.board.config.BoardReadCountConfiguration;
+import com.yunseong.board.domain.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class BoardReadCounter {
+
+    private final BoardRepository boardRepository;
+    private final TaskScheduler taskScheduler;
+    private final long maxPending;
+    private final ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+    private final LongAdder pending = new LongAdder();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public BoardReadCounter(BoardRepository boardRepository, TaskScheduler taskScheduler, BoardReadCountConfiguration configuration) {
+        this.boardRepository = boardRepository;
+        this.taskScheduler = taskScheduler;
+        this.maxPending = configuration.getMaxPending();
+    }
+
+    public long increment(long boardId) {
+        LongAdder count = this.add(boardId, 1);
+        this.pending.increment();
+        if (this.pending.sum() >= this.maxPending && this.flushRequested.compareAndSet(false, true))
+            this.taskScheduler.schedule(this::flush, new Date());
+        return count.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${read-count.flush-interval:1000}")
+    public void flush() {
+        this.flushLock.lock();
+        try {
+            this.flushRequested.set(false);
+            Map<Long, Long> readCounts = new HashMap<>();
+            this.counts.forEach((boardId, count) -> {
+                long value = count.sum();
+                if (value == 0) return;
+                count.add(-value);
+                readCounts.put(boardId, value);
+            });
+            if (readCounts.isEmpty()) return;
+            this.pending.add(-readCounts.values().stream().mapToLong(Long::longValue).sum());
+            try {
+                this.boardRepository.addReadCounts(readCounts);
+            } catch (RuntimeException e) {
+                log.warn("조회수 반영에 실패했습니다", e);
+                readCounts.forEach(this::add);
+                this.pending.add(readCounts.values().stream().mapToLong(Long::longValue).sum());
+            }
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    private LongAdder add(long boardId, long value) {
+        LongAdder count = this.counts.computeIfAbsent(boardId, id -> new LongAdder());
+        count.add(value);
+        return count;
+    }
+
+    @PreDestroy
+    public void close() {
+        this.flush();
+    }
+}
@@ -0,0 +1,30 @@
+package com.yunseong.board.service;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+class BoardSearchHighlighter {
+
+    private final Pattern pattern;
+
+    BoardSearchHighlighter(List<String> terms) {
+        this.pattern = terms.isEmpty() ? null : Pattern.compile(terms.stream().map(Pattern::quote).collect(Collectors.joining("|")), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    String highlight(String text) {
+        if(this.pattern == null || text == null) return null;
+        Matcher matcher = this.pattern.matcher(text);
+        StringBuilder builder = new StringBuilder();
+        int last = 0;
+        while(matcher.find()) {
+            builder.append(HtmlUtils.htmlEscape(text.substring(last, matcher.start())))
+                    .append("<em>").append(HtmlUtils.htmlEscape(matcher.group())).append("</em>");
+            last = matcher.end();
+        }
+        return builder.append(HtmlUtils.htmlEscape(text.substring(last))).toString();
+    }
+}
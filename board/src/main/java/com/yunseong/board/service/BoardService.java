@@ -4,6 +4,9 @@ import com.yunseong.board.api.BoardCategory;
 import com.yunseong.board.api.events.BoardAddRecommendEvent;
 import com.yunseong.board.controller.*;
 import com.yunseong.board.domain.*;
+import com.yunseong.board.ranking.HotBoardRanking;
+import com.yunseong.common.DayBucket;
+import com.yunseong.common.ranking.RankedItem;
 import io.eventuate.tram.events.common.DomainEvent;
 import io.eventuate.tram.events.publisher.DomainEventPublisher;
 import lombok.AllArgsConstructor;
@@ -13,11 +16,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import java.text.ParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -27,6 +33,10 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
     private final DomainEventPublisher domainEventPublisher;
+    private final BoardReadCounter boardReadCounter;
+    private final RecommenderCache recommenderCache;
+    private final DayBucket dayBucket;
+    private final HotBoardRanking hotBoardRanking;
 
     public Comment createComment(long boardId, String writer, CommentCreateRequest request) {
         Comment originComment = null;
@@ -36,7 +46,9 @@ public class BoardService {
             if(originComment.getOriginalComment() != null) originComment = originComment.getOriginalComment();
             commentState = CommentState.REPLY;
         }
-        return this.commentRepository.save(new Comment(this.getBoard(boardId), writer, request.getContent(), originComment, commentState));
+        Comment comment = this.commentRepository.save(new Comment(this.getBoard(boardId), writer, request.getContent(), originComment, commentState));
+        this.boardRepository.addCommentCount(boardId, 1);
+        return comment;
     }
 
     @Transactional(readOnly = true)
@@ -44,19 +56,6 @@ public class BoardService {
         return this.boardRepository.findMyBoards(username, pageable);
     }
 
-    public boolean batchBoard(List<Long> boardIds) {
-        try {
-            this.boardRepository.batchUpdate(boardIds);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    public void batchUndoBoard(List<Long> boardIds) {
-        this.boardRepository.batchUndoUpdate(boardIds);
-    }
-
     public Comment reviseComment(long id, String writer, String content) {
         Comment comment = this.getComment(id);
         comment.revise(writer, content);
@@ -66,6 +65,7 @@ public class BoardService {
     public void deleteComment(long id, String writer) {
         Comment comment = this.getComment(id);
         comment.delete(writer);
+        this.boardRepository.addCommentCount(comment.getBoard().getId(), -1);
     }
 
     @Transactional(readOnly = true)
@@ -74,7 +74,7 @@ public class BoardService {
     }
 
     private Comment getComment(long id) {
-        return this.commentRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("해당 댓글엔티티는 존재하지않습니다."));
+        return this.commentRepository.findActiveById(id).orElseThrow(() -> new EntityNotFoundException("해당 댓글엔티티는 존재하지않습니다."));
     }
 
     public Board createBoard(String writer, BoardCreateRequest request, boolean isDifferent) {
@@ -84,17 +84,26 @@ public class BoardService {
     public void delete(long id, String writer) {
         Board board = this.getBoard(id);
         board.delete(writer);
+        this.hotBoardRanking.removeAfterCommit(List.of(id));
     }
 
     public Board recommendBoard(long id, String recommender) {
         Board board = this.boardRepository.findFetchById(id).orElseThrow(() -> new EntityNotFoundException("해당 게시판엔티티는 존재하지않습니다."));
         if(recommender.equals(board.getWriter())) throw new CannotRecommendByWriterException("작성자가 추천할 수 없습니다");
-        if(board.getRecommender().getRecommender().contains(recommender)) throw new AlreadyRecommendedException("이미 추천했습니다");
-        try {
-            this.domainEventPublisher.publish(Board.class, board.getId(), List.of(board.addRecommend(recommender)));
-        } catch (ParseException e) {
-            return null;
+        if(this.recommenderCache.contains(id, recommender)) throw new AlreadyRecommendedException("이미 추천했습니다");
+        if(this.boardRepository.addRecommender(board.getRecommender().getId(), recommender) == 0) {
+            this.recommenderCache.put(id, recommender);
+            throw new AlreadyRecommendedException("이미 추천했습니다");
         }
+        this.boardRepository.addRecommendCount(board.getRecommender().getId());
+        this.recommenderCache.putAfterCommit(id, recommender);
+        long today = this.dayBucket.today();
+        Date recommendDate = this.dayBucket.startOf(today);
+        this.boardRepository.addRecommendStatistics(board.getRecommender().getId(), today, recommendDate);
+        long value = this.boardRepository.findRecommendValue(board.getRecommender().getId(), today);
+        BoardAddRecommendEvent event = new BoardAddRecommendEvent(board.getId(), recommendDate, value);
+        this.domainEventPublisher.publish(Board.class, board.getId(), List.of(event));
+        this.hotBoardRanking.recordAfterCommit(board.getBoardCategory(), board.getId(), event.getRecommendTime(), event.getValue());
         return board;
     }
 
@@ -106,21 +115,31 @@ public class BoardService {
 
     @Transactional(readOnly = true)
     public Page<BoardSearchResponse> findsBoard(BoardSearchCondition condition, Pageable pageable) {
-        return this.boardRepository.findPageByQuery(condition, pageable).map(b -> new BoardSearchResponse(b.getId(), b.getSubject(), b.getWriter(), b.getBoardCategory(), b.getReadCount(), b.getRecommender().getRecommender().size(), b.getCreatedTime()));
+        BoardSearchHighlighter highlighter = new BoardSearchHighlighter(condition.isHighlight()
+                ? Stream.concat(SearchTerms.tokenize(condition.getKeyword()).stream(), SearchTerms.tokenize(condition.getSubject()).stream()).distinct().collect(Collectors.toList())
+                : Collections.emptyList());
+        return this.boardRepository.findPageByQuery(condition, pageable).map(b -> new BoardSearchResponse(b.getId(), b.getSubject(), b.getWriter(), b.getBoardCategory(), b.getReadCount(), b.getRecommender().getRecommendCount(), b.getCreatedTime(), highlighter.highlight(b.getSubject())));
     }
 
     @Transactional(readOnly = true)
     public List<HotBoardResponse> findsHotBoard(HotBoardSearchCondition condition) {
-        List<Board> hotBoards = this.boardRepository.findHotBoards(condition);
-        return hotBoards.stream().map(b ->
-                new HotBoardResponse(b.getId(), b.getWriter(), b.getSubject(), b.getBoardCategory(), b.getRecommender().getRecommendStatistics().stream().mapToLong(RecommendStatistics::getValue).sum()))
-                .collect(Collectors.toList());
+        List<RankedItem> ranked = this.hotBoardRanking.top(condition.getCategory(), condition.getMinDate(), condition.getMaxDate(), condition.getSize());
+        if(ranked.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Board> boards = this.boardRepository.findAllById(ranked.stream().map(RankedItem::getId).collect(Collectors.toList()))
+                .stream().filter(b -> !b.isDelete()).collect(Collectors.toMap(Board::getId, Function.identity()));
+        return ranked.stream().filter(r -> boards.containsKey(r.getId())).map(r -> {
+            Board b = boards.get(r.getId());
+            return new HotBoardResponse(b.getId(), b.getWriter(), b.getSubject(), b.getBoardCategory(), r.getCount());
+        }).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public BoardDetailResponse findBoard(long id) {
         Board board = this.boardRepository.findFetchById(id).orElseThrow(() -> new EntityNotFoundException("해당 게시판엔티티는 존재하지않습니다."));
-        board.addReadCount();
-        return new BoardDetailResponse(board.getId(), board.getWriter(), board.getSubject(), board.getContent(), board.getBoardCategory(), board.getReadCount(), board.getRecommender().getRecommender().size(), board.getCreatedTime());
+        long pending = this.boardReadCounter.increment(id);
+        return new BoardDetailResponse(board.getId(), board.getWriter(), board.getSubject(), board.getContent(), board.getBoardCategory(), board.getReadCount() + pending, board.getRecommender().getRecommendCount(), board.getCommentCount(), board.getCreatedTime());
     }
 
     @Transactional(readOnly = true)
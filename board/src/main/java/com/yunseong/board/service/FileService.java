@@ -1,29 +1,67 @@
 package com.yunseong.board.service;
 
-import org.springframework.core.io.DefaultResourceLoader;
-import org.springframework.core.io.Resource;
+import com.yunseong.board.api.AttachmentDetail;
+import com.yunseong.board.domain.Attachment;
+import com.yunseong.board.domain.AttachmentRepository;
+import com.yunseong.common.storage.BlobReference;
+import com.yunseong.common.storage.BlobStore;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
+@AllArgsConstructor
 public class FileService {
 
-    private final Resource resource = new DefaultResourceLoader().getResource("file:D:/Springboot/[20201007]Third_Project/board/src/main/resources/images/");
-
-    public void save(long id, MultipartFile[] files) {
-        if(files != null && files.length > 0) {
-            try {
-                Path path = this.resource.getFile().toPath();
-                Files.createDirectory(path.resolve(String.valueOf(id)));
-                for (MultipartFile file : files)
-                    Files.copy(file.getInputStream(), path.resolve(id + "/" + file.getOriginalFilename()));
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        }
+    private final BlobStore blobStore;
+    private final AttachmentRepository attachmentRepository;
+
+    public CompletableFuture<Void> save(long id, MultipartFile[] files) {
+        if(files == null || files.length == 0) return CompletableFuture.completedFuture(null);
+        return CompletableFuture.allOf(Arrays.stream(files)
+                .map(f -> this.register(id, this.blobStore.store(f)))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    public void attach(long id, List<AttachmentDetail> attachments) {
+        if(attachments == null || attachments.isEmpty()) return;
+        List<CompletableFuture<BlobReference>> stored = attachments.stream()
+                .map(a -> this.blobStore.commit(a.getStagedId(), a.getContentId(), a.getFilename(), a.getContentType()))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(stored.toArray(CompletableFuture[]::new)).join();
+        stored.stream()
+                .map(CompletableFuture::join)
+                .forEach(b -> this.attachmentRepository.save(new Attachment(id, b.getContentId(), b.getFilename(), b.getContentType(), b.getSize())));
+    }
+
+    public List<Attachment> findAttachments(long boardId) {
+        return this.attachmentRepository.findByBoardId(boardId);
+    }
+
+    public Attachment findAttachment(long boardId, String contentId) {
+        return this.attachmentRepository.findFirstByBoardIdAndContentId(boardId, contentId).orElseThrow(() -> new AttachmentNotFoundException("해당 첨부파일은 존재하지 않습니다."));
+    }
+
+    public Path findFile(String contentId, String variant) {
+        Optional<Path> path = variant == null ? this.blobStore.find(contentId) : this.blobStore.findVariant(contentId, variant);
+        return path.orElseThrow(() -> new AttachmentNotFoundException("해당 첨부파일은 존재하지 않습니다."));
+    }
+
+    private CompletableFuture<Void> register(long id, CompletableFuture<BlobReference> stored) {
+        return stored
+                .thenAccept(b -> this.attachmentRepository.save(new Attachment(id, b.getContentId(), b.getFilename(), b.getContentType(), b.getSize())))
+                .exceptionally(e -> {
+                    log.warn("첨부파일 저장에 실패했습니다 : board " + id, e);
+                    return null;
+                });
     }
 }
@@ -0,0 +1,45 @@
+package com.yunseong.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yunseong.board.config.BoardCacheConfiguration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class RecommenderCache {
+
+    private final Cache<String, Boolean> cache;
+
+    public RecommenderCache(BoardCacheConfiguration boardCacheConfiguration) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(boardCacheConfiguration.getMaximumSize())
+                .build();
+    }
+
+    public boolean contains(long boardId, String username) {
+        return this.cache.getIfPresent(key(boardId, username)) != null;
+    }
+
+    public void put(long boardId, String username) {
+        this.cache.put(key(boardId, username), Boolean.TRUE);
+    }
+
+    public void putAfterCommit(long boardId, String username) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.put(boardId, username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(boardId, username);
+            }
+        });
+    }
+
+    private static String key(long boardId, String username) {
+        return boardId + ":" + username;
+    }
+}
@@ -0,0 +1,2 @@
+alter table board add fulltext index ft_board_subject (subject)
+alter table board add fulltext index ft_board_search (subject, content, writer)
@@ -4,6 +4,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.io.UnsupportedEncodingException;
+import java.time.Clock;
 
 @Configuration
 public class CommonConfiguration {
@@ -12,4 +13,14 @@ public class CommonConfiguration {
     public AES256Util aes256Util() throws UnsupportedEncodingException {
         return new AES256Util();
     }
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    @Bean
+    public DayBucket dayBucket(Clock clock) {
+        return new DayBucket(clock);
+    }
 }
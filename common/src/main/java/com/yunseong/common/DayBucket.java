@@ -0,0 +1,78 @@
+package com.yunseong.common;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+public class DayBucket {
+
+    private final Clock clock;
+    private volatile Day current;
+
+    public DayBucket(Clock clock) {
+        this.clock = clock;
+        this.current = this.dayOf(clock.millis());
+    }
+
+    public Clock getClock() {
+        return this.clock;
+    }
+
+    public ZoneId getZone() {
+        return this.clock.getZone();
+    }
+
+    public long today() {
+        return this.epochDay(this.clock.millis());
+    }
+
+    public long epochDay(Date date) {
+        return this.epochDay(date.getTime());
+    }
+
+    public long epochDay(long epochMilli) {
+        Day day = this.current;
+        if (day.contains(epochMilli)) return day.epochDay;
+        day = this.dayOf(epochMilli);
+        if (day.start > this.current.start) this.current = day;
+        return day.epochDay;
+    }
+
+    public Date startOf(long epochDay) {
+        Day day = this.current;
+        if (day.epochDay == epochDay) return new Date(day.start);
+        return new Date(this.startMillis(epochDay));
+    }
+
+    public Date startOfToday() {
+        return this.startOf(this.today());
+    }
+
+    private Day dayOf(long epochMilli) {
+        long epochDay = Instant.ofEpochMilli(epochMilli).atZone(this.clock.getZone()).toLocalDate().toEpochDay();
+        return new Day(epochDay, this.startMillis(epochDay), this.startMillis(epochDay + 1));
+    }
+
+    private long startMillis(long epochDay) {
+        return LocalDate.ofEpochDay(epochDay).atStartOfDay(this.clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static class Day {
+
+        private final long epochDay;
+        private final long start;
+        private final long end;
+
+        private Day(long epochDay, long start, long end) {
+            this.epochDay = epochDay;
+            this.start = start;
+            this.end = end;
+        }
+
+        private boolean contains(long epochMilli) {
+            return this.start <= epochMilli && epochMilli < this.end;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.yunseong.common.lane;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "lane")
+public class AggregateLaneConfiguration {
+
+    private int threads = 0;
+    private int queueCapacity = 1000;
+    private List<String> keyFields = new ArrayList<>();
+}
@@ -0,0 +1,77 @@
+package com.yunseong.common.lane;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+public class AggregateLaneExecutor {
+
+    private final ThreadPoolExecutor[] lanes;
+    private final ThreadLocal<Boolean> laneThread = new ThreadLocal<>();
+    private final Timer waitTimer;
+
+    public AggregateLaneExecutor(AggregateLaneConfiguration configuration, MeterRegistry meterRegistry) {
+        int threads = configuration.getThreads() > 0 ? configuration.getThreads() : Runtime.getRuntime().availableProcessors();
+        this.lanes = new ThreadPoolExecutor[threads];
+        for (int i = 0; i < threads; i++) {
+            String name = "aggregate-lane-" + i;
+            this.lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(configuration.getQueueCapacity()),
+                    r -> {
+                        Thread thread = new Thread(() -> {
+                            this.laneThread.set(Boolean.TRUE);
+                            r.run();
+                        }, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    AggregateLaneExecutor::enqueue);
+            meterRegistry.gauge("aggregate.lane.depth", Tags.of("lane", String.valueOf(i)), this.lanes[i], lane -> lane.getQueue().size());
+        }
+        this.waitTimer = meterRegistry.timer("aggregate.lane.wait");
+    }
+
+    public <T> T execute(long aggregateId, Supplier<T> work) {
+        if (this.laneThread.get() != null) return work.get();
+        long enqueued = System.nanoTime();
+        Future<T> future = this.lanes[this.lane(aggregateId)].submit(() -> {
+            this.waitTimer.record(System.nanoTime() - enqueued, TimeUnit.NANOSECONDS);
+            return work.get();
+        });
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("작업 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        for (ThreadPoolExecutor lane : this.lanes) lane.shutdown();
+        for (ThreadPoolExecutor lane : this.lanes) lane.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private int lane(long aggregateId) {
+        long hash = aggregateId * 0x9E3779B97F4A7C15L;
+        return Math.floorMod((int) (hash ^ (hash >>> 32)), this.lanes.length);
+    }
+
+    private static void enqueue(Runnable task, ThreadPoolExecutor lane) {
+        if (lane.isShutdown()) throw new RejectedExecutionException("종료된 실행기입니다.");
+        try {
+            lane.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.yunseong.common.lane;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.eventuate.tram.consumer.common.MessageHandlerDecorator;
+import io.eventuate.tram.consumer.common.MessageHandlerDecoratorChain;
+import io.eventuate.tram.consumer.common.SubscriberIdAndMessage;
+import io.eventuate.tram.messaging.common.Message;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+public class AggregateLaneMessageHandlerDecorator implements MessageHandlerDecorator {
+
+    private final AggregateLaneExecutor aggregateLaneExecutor;
+    private final List<String> keyFields;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public AggregateLaneMessageHandlerDecorator(AggregateLaneExecutor aggregateLaneExecutor, List<String> keyFields) {
+        this.aggregateLaneExecutor = aggregateLaneExecutor;
+        this.keyFields = List.copyOf(keyFields);
+    }
+
+    @Override
+    public void accept(SubscriberIdAndMessage subscriberIdAndMessage, MessageHandlerDecoratorChain chain) {
+        OptionalLong aggregateId = this.aggregateId(subscriberIdAndMessage.getMessage());
+        if (aggregateId.isEmpty()) {
+            chain.invokeNext(subscriberIdAndMessage);
+            return;
+        }
+        this.aggregateLaneExecutor.execute(aggregateId.getAsLong(), () -> {
+            chain.invokeNext(subscriberIdAndMessage);
+            return null;
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private OptionalLong aggregateId(Message message) {
+        if (this.keyFields.isEmpty()) return OptionalLong.empty();
+        try {
+            JsonNode payload = this.objectMapper.readTree(message.getPayload());
+            for (String field : this.keyFields) {
+                JsonNode value = payload.get(field);
+                if (value != null && value.canConvertToLong()) return OptionalLong.of(value.asLong());
+            }
+        } catch (JsonProcessingException e) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.empty();
+    }
+}
@@ -0,0 +1,21 @@
+package com.yunseong.common.lane;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AggregateLaneConfiguration.class)
+public class LaneConfiguration {
+
+    @Bean
+    public AggregateLaneExecutor aggregateLaneExecutor(AggregateLaneConfiguration aggregateLaneConfiguration, MeterRegistry meterRegistry) {
+        return new AggregateLaneExecutor(aggregateLaneConfiguration, meterRegistry);
+    }
+
+    @Bean
+    public AggregateLaneMessageHandlerDecorator aggregateLaneMessageHandlerDecorator(AggregateLaneExecutor aggregateLaneExecutor, AggregateLaneConfiguration aggregateLaneConfiguration) {
+        return new AggregateLaneMessageHandlerDecorator(aggregateLaneExecutor, aggregateLaneConfiguration.getKeyFields());
+    }
+}
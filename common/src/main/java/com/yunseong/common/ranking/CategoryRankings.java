@@ -0,0 +1,73 @@
+package com.yunseong.common.ranking;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class CategoryRankings<C extends Enum<C>> {
+
+    private final Class<C> type;
+    private final Supplier<DayRanking> factory;
+    private final Object lock = new Object();
+    private final Object rebuildLock = new Object();
+    private volatile Map<C, DayRanking> rankings;
+    private List<Consumer<Map<C, DayRanking>>> pending;
+
+    public CategoryRankings(Class<C> type, Supplier<DayRanking> factory) {
+        this.type = type;
+        this.factory = factory;
+        this.rankings = this.emptyRankings();
+    }
+
+    public void record(C category, long id, long epochDay, long value, long today) {
+        this.apply(rankings -> rankings.get(category).record(id, epochDay, value, today));
+    }
+
+    public void remove(Collection<Long> ids) {
+        this.apply(rankings -> rankings.values().forEach(ranking -> ranking.remove(ids)));
+    }
+
+    public List<RankedItem> top(C category, long minDay, long maxDay, int size, double[] weights, long today) {
+        Map<C, DayRanking> rankings = this.rankings;
+        if (category != null) return rankings.get(category).top(minDay, maxDay, size, weights, today);
+        return rankings.values().stream()
+                .flatMap(ranking -> ranking.top(minDay, maxDay, size, weights, today).stream())
+                .sorted()
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    public void rebuild(Consumer<Map<C, DayRanking>> loader) {
+        synchronized (this.rebuildLock) {
+            synchronized (this.lock) {
+                this.pending = new ArrayList<>();
+            }
+            try {
+                Map<C, DayRanking> rankings = this.emptyRankings();
+                loader.accept(rankings);
+                synchronized (this.lock) {
+                    this.pending.forEach(change -> change.accept(rankings));
+                    this.rankings = rankings;
+                }
+            } finally {
+                synchronized (this.lock) {
+                    this.pending = null;
+                }
+            }
+        }
+    }
+
+    private void apply(Consumer<Map<C, DayRanking>> change) {
+        synchronized (this.lock) {
+            change.accept(this.rankings);
+            if (this.pending != null) this.pending.add(change);
+        }
+    }
+
+    private Map<C, DayRanking> emptyRankings() {
+        Map<C, DayRanking> rankings = new EnumMap<>(this.type);
+        for (C category : this.type.getEnumConstants()) rankings.put(category, this.factory.get());
+        return rankings;
+    }
+}
@@ -0,0 +1,76 @@
+package com.yunseong.common.ranking;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class DayRanking {
+
+    private final NavigableMap<Long, Map<Long, Long>> days = new TreeMap<>();
+    private final List<RankingWindow> windows;
+    private final int retention;
+    private long today;
+
+    public DayRanking(int retention, List<Integer> windows, long today) {
+        this.retention = Math.max(1, retention);
+        this.windows = windows.stream().filter(days -> days <= this.retention).map(RankingWindow::new).collect(Collectors.toList());
+        this.today = today;
+    }
+
+    public synchronized void record(long id, long epochDay, long value, long today) {
+        this.advance(Math.max(epochDay, today));
+        if (epochDay <= this.today - this.retention) return;
+        Long before = this.days.computeIfAbsent(epochDay, d -> new HashMap<>()).put(id, value);
+        long delta = value - (before == null ? 0 : before);
+        for (RankingWindow window : this.windows) {
+            if (window.contains(epochDay, this.today)) window.add(id, delta);
+        }
+    }
+
+    public synchronized void remove(Collection<Long> ids) {
+        this.days.forEach((day, bucket) -> ids.forEach(id -> {
+            Long value = bucket.remove(id);
+            if (value == null) return;
+            for (RankingWindow window : this.windows) {
+                if (window.contains(day, this.today)) window.add(id, -value);
+            }
+        }));
+    }
+
+    public synchronized List<RankedItem> top(long minDay, long maxDay, int size, double[] weights, long today) {
+        this.advance(today);
+        if (weights == null) {
+            for (RankingWindow window : this.windows) {
+                if (window.matches(minDay, maxDay, this.today)) return window.top(size);
+            }
+        }
+        Map<Long, double[]> scores = new HashMap<>();
+        this.days.subMap(minDay, true, maxDay, true).forEach((day, bucket) -> {
+            double weight = weights == null ? 1 : weights[(int) Math.min(maxDay - day, weights.length - 1)];
+            bucket.forEach((id, value) -> {
+                double[] score = scores.computeIfAbsent(id, k -> new double[2]);
+                score[0] += value * weight;
+                score[1] += value;
+            });
+        });
+        PriorityQueue<RankedItem> heap = new PriorityQueue<>(Comparator.reverseOrder());
+        scores.forEach((id, score) -> {
+            heap.add(new RankedItem(id, score[0], (long) score[1]));
+            if (heap.size() > size) heap.poll();
+        });
+        List<RankedItem> result = new ArrayList<>(heap);
+        Collections.sort(result);
+        return result;
+    }
+
+    private void advance(long today) {
+        if (today <= this.today) return;
+        for (RankingWindow window : this.windows) {
+            long from = this.today - window.getDays() + 1;
+            long to = today - window.getDays();
+            if (to < from) continue;
+            this.days.subMap(from, true, to, true).forEach((day, bucket) -> bucket.forEach((id, value) -> window.add(id, -value)));
+        }
+        this.today = today;
+        this.days.headMap(today - this.retention + 1, false).clear();
+    }
+}
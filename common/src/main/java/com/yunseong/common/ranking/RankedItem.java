@@ -0,0 +1,21 @@
+package com.yunseong.common.ranking;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class RankedItem implements Comparable<RankedItem> {
+
+    private final long id;
+    private final double score;
+    private final long count;
+
+    @Override
+    public int compareTo(RankedItem o) {
+        int compare = Double.compare(o.score, this.score);
+        return compare != 0 ? compare : Long.compare(o.id, this.id);
+    }
+}
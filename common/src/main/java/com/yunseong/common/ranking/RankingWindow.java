@@ -0,0 +1,46 @@
+package com.yunseong.common.ranking;
+
+import java.util.*;
+
+class RankingWindow {
+
+    private final int days;
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final TreeSet<RankedItem> order = new TreeSet<>();
+
+    RankingWindow(int days) {
+        this.days = days;
+    }
+
+    int getDays() {
+        return this.days;
+    }
+
+    boolean contains(long day, long today) {
+        return day <= today && day > today - this.days;
+    }
+
+    boolean matches(long minDay, long maxDay, long today) {
+        return maxDay >= today && minDay == today - this.days + 1;
+    }
+
+    void add(long id, long delta) {
+        if (delta == 0) return;
+        Long before = this.scores.get(id);
+        if (before != null) this.order.remove(new RankedItem(id, before, before));
+        long after = (before == null ? 0 : before) + delta;
+        if (after > 0) {
+            this.scores.put(id, after);
+            this.order.add(new RankedItem(id, after, after));
+        } else {
+            this.scores.remove(id);
+        }
+    }
+
+    List<RankedItem> top(int size) {
+        List<RankedItem> result = new ArrayList<>(Math.min(size, this.order.size()));
+        Iterator<RankedItem> iterator = this.order.iterator();
+        while (iterator.hasNext() && result.size() < size) result.add(iterator.next());
+        return result;
+    }
+}
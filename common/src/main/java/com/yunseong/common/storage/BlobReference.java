@@ -0,0 +1,17 @@
+package com.yunseong.common.storage;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class BlobReference {
+
+    private String contentId;
+    private String filename;
+    private String contentType;
+    private long size;
+}
@@ -0,0 +1,26 @@
+package com.yunseong.common.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface BlobStore {
+
+    StagedBlob stage(MultipartFile file);
+
+    CompletableFuture<BlobReference> commit(String stagedId, String contentId, String filename, String contentType);
+
+    default CompletableFuture<BlobReference> store(MultipartFile file) {
+        StagedBlob staged = this.stage(file);
+        return this.commit(staged.getStagedId(), staged.getContentId(), file.getOriginalFilename(), file.getContentType());
+    }
+
+    Optional<Path> find(String contentId);
+
+    Optional<Path> findVariant(String contentId, String variant);
+
+    int purgeStaged(Duration olderThan);
+}
@@ -0,0 +1,18 @@
+package com.yunseong.common.storage;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "storage")
+public class BlobStoreConfiguration {
+
+    private String root;
+    private int threads = 4;
+    private int queueCapacity = 256;
+    private int thumbnailWidth = 320;
+    private long thumbnailMaxBytes = 20 * 1024 * 1024;
+    private Duration stagingTtl = Duration.ofHours(24);
+}
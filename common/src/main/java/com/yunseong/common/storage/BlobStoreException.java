@@ -0,0 +1,8 @@
+package com.yunseong.common.storage;
+
+public class BlobStoreException extends RuntimeException {
+
+    public BlobStoreException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,186 @@
+package com.yunseong.common.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.regex.Pattern;
+
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+
+    private static final Pattern CONTENT_ID = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern STAGED_ID = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+    private static final String THUMBNAIL = "thumbnail";
+
+    private final Path contentRoot;
+    private final Path stagingRoot;
+    private final Path variantRoot;
+    private final int thumbnailWidth;
+    private final long thumbnailMaxBytes;
+    private final ThreadPoolExecutor executor;
+
+    public LocalBlobStore(BlobStoreConfiguration configuration) throws IOException {
+        if (configuration.getRoot() == null || !Paths.get(configuration.getRoot()).isAbsolute())
+            throw new IllegalStateException("storage.root는 모든 서비스가 공유하는 절대 경로로 지정해야 합니다 : " + configuration.getRoot());
+        Path root = Paths.get(configuration.getRoot());
+        this.contentRoot = Files.createDirectories(root.resolve("content"));
+        this.stagingRoot = Files.createDirectories(root.resolve("staging"));
+        this.variantRoot = Files.createDirectories(root.resolve("variants"));
+        this.thumbnailWidth = configuration.getThumbnailWidth();
+        this.thumbnailMaxBytes = configuration.getThumbnailMaxBytes();
+        this.executor = new ThreadPoolExecutor(configuration.getThreads(), configuration.getThreads(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(configuration.getQueueCapacity()), r -> {
+                    Thread thread = new Thread(r, "blob-store");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public Path getContentRoot() {
+        return this.contentRoot;
+    }
+
+    @Override
+    public StagedBlob stage(MultipartFile file) {
+        String stagedId = UUID.randomUUID().toString();
+        Path staged = this.stagingRoot.resolve(stagedId);
+        MessageDigest digest = this.newDigest();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            long size = Files.copy(in, staged);
+            return new StagedBlob(stagedId, this.toHex(digest.digest()), size);
+        } catch (IOException e) {
+            this.deleteQuietly(staged);
+            throw new BlobStoreException("파일을 저장할 수 없습니다 : " + file.getOriginalFilename(), e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<BlobReference> commit(String stagedId, String contentId, String filename, String contentType) {
+        if (!STAGED_ID.matcher(stagedId).matches() || !CONTENT_ID.matcher(contentId).matches())
+            return CompletableFuture.failedFuture(new BlobStoreException("잘못된 파일 식별자입니다 : " + stagedId, null));
+        Path staged = this.stagingRoot.resolve(stagedId);
+        CompletableFuture<BlobReference> stored = CompletableFuture.supplyAsync(() -> this.commit(staged, contentId, filename, contentType), this.executor);
+        stored.thenAcceptAsync(this::createThumbnail, this.executor)
+                .exceptionally(e -> {
+                    log.warn("썸네일 생성에 실패했습니다", e);
+                    return null;
+                });
+        return stored;
+    }
+
+    @Override
+    public int purgeStaged(Duration olderThan) {
+        long threshold = System.currentTimeMillis() - olderThan.toMillis();
+        int purged = 0;
+        try (DirectoryStream<Path> staged = Files.newDirectoryStream(this.stagingRoot)) {
+            for (Path path : staged) {
+                if (Files.getLastModifiedTime(path).toMillis() < threshold && Files.deleteIfExists(path)) purged++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return purged;
+    }
+
+    @Override
+    public Optional<Path> find(String contentId) {
+        if (!CONTENT_ID.matcher(contentId).matches()) return Optional.empty();
+        Path path = this.contentPath(contentId);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Path> findVariant(String contentId, String variant) {
+        if (!CONTENT_ID.matcher(contentId).matches() || !THUMBNAIL.equals(variant)) return Optional.empty();
+        Path path = this.variantRoot.resolve(variant).resolve(contentId);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        this.executor.shutdown();
+        this.executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private BlobReference commit(Path staged, String contentId, String filename, String contentType) {
+        Path target = this.contentPath(contentId);
+        try {
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException ignored) {
+                } catch (NoSuchFileException e) {
+                    if (!Files.exists(target)) throw new BlobStoreException("임시 파일이 존재하지 않습니다 : " + staged.getFileName(), e);
+                }
+            }
+            this.deleteQuietly(staged);
+            return new BlobReference(contentId, filename, contentType, Files.size(target));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : bytes) hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        return hex.toString();
+    }
+
+    private void createThumbnail(BlobReference reference) {
+        if (reference.getContentType() == null || !reference.getContentType().startsWith("image/") || reference.getSize() > this.thumbnailMaxBytes) return;
+        Path target = this.variantRoot.resolve(THUMBNAIL).resolve(reference.getContentId());
+        if (Files.exists(target)) return;
+        try {
+            BufferedImage source = ImageIO.read(this.contentPath(reference.getContentId()).toFile());
+            if (source == null) return;
+            int width = Math.min(this.thumbnailWidth, source.getWidth());
+            int height = Math.max(1, source.getHeight() * width / source.getWidth());
+            BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = thumbnail.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+            graphics.dispose();
+            Files.createDirectories(target.getParent());
+            Path staged = this.stagingRoot.resolve(UUID.randomUUID().toString());
+            ImageIO.write(thumbnail, "jpg", staged.toFile());
+            Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path contentPath(String contentId) {
+        return this.contentRoot.resolve(contentId.substring(0, 2)).resolve(contentId.substring(2, 4)).resolve(contentId);
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.yunseong.common.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StagedBlob {
+
+    private final String stagedId;
+    private final String contentId;
+    private final long size;
+}
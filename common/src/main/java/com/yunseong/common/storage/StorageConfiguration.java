@@ -0,0 +1,17 @@
+package com.yunseong.common.storage;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+@EnableConfigurationProperties(BlobStoreConfiguration.class)
+public class StorageConfiguration {
+
+    @Bean
+    public LocalBlobStore blobStore(BlobStoreConfiguration blobStoreConfiguration) throws IOException {
+        return new LocalBlobStore(blobStoreConfiguration);
+    }
+}
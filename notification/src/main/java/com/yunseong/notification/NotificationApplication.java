@@ -2,6 +2,7 @@ package com.yunseong.notification;
 
 import com.yunseong.board.config.OAuth2Configuration;
 import com.yunseong.common.CommonConfiguration;
+import com.yunseong.notification.config.MailOutboxConfiguration;
 import com.yunseong.notification.config.MailSenderConfiguration;
 import com.yunseong.notification.config.NotificationServiceMessageHandlersConfiguration;
 import io.eventuate.tram.spring.events.publisher.TramEventsPublisherConfiguration;
@@ -12,11 +13,13 @@ import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServic
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Import({TramJdbcKafkaConfiguration.class, TramEventsPublisherConfiguration.class, NotificationServiceMessageHandlersConfiguration.class, CommonConfiguration.class})
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication(exclude = UserDetailsServiceAutoConfiguration.class)
-@EnableConfigurationProperties(value = { OAuth2Configuration.class, MailSenderConfiguration.class })
+@EnableConfigurationProperties(value = { OAuth2Configuration.class, MailSenderConfiguration.class, MailOutboxConfiguration.class })
 public class NotificationApplication {
 
     public static void main(String[] args) {
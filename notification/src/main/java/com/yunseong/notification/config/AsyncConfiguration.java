@@ -2,22 +2,23 @@ package com.yunseong.notification.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
 @Configuration
-@EnableAsync
 public class AsyncConfiguration {
 
     @Bean(name = "mail")
-    public Executor mailExecutor() {
+    public Executor mailExecutor(MailOutboxConfiguration mailOutboxConfiguration) {
+        int workers = Math.max(1, mailOutboxConfiguration.getWorkers());
         ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
-        threadPoolTaskExecutor.setCorePoolSize(5);
-        threadPoolTaskExecutor.setMaxPoolSize(10);
-        threadPoolTaskExecutor.setQueueCapacity(20);
+        threadPoolTaskExecutor.setCorePoolSize(workers);
+        threadPoolTaskExecutor.setMaxPoolSize(workers);
+        threadPoolTaskExecutor.setQueueCapacity(workers);
         threadPoolTaskExecutor.setThreadNamePrefix("mail-");
+        threadPoolTaskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        threadPoolTaskExecutor.setAwaitTerminationSeconds(30);
         threadPoolTaskExecutor.initialize();
         return threadPoolTaskExecutor;
     }
@@ -0,0 +1,21 @@
+package com.yunseong.notification.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "outbox")
+public class MailOutboxConfiguration {
+
+    private int workers = 4;
+    private int batchSize = 20;
+    private double permitsPerSecond = 5;
+    private int burst = 20;
+    private int maxAttempts = 6;
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofHours(1);
+    private Duration lease = Duration.ofMinutes(5);
+    private Duration sentRetention = Duration.ofDays(7);
+}
@@ -3,6 +3,8 @@ package com.yunseong.notification.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Data
 @ConfigurationProperties(prefix = "mail")
 public class MailSenderConfiguration {
@@ -11,4 +13,7 @@ public class MailSenderConfiguration {
     private int port;
     private String username;
     private String password;
+    private boolean auth = true;
+    private boolean ssl = true;
+    private Duration timeout = Duration.ofSeconds(10);
 }
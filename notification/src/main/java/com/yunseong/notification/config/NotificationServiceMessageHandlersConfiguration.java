@@ -38,8 +38,11 @@ public class NotificationServiceMessageHandlersConfiguration {
         javaMailSender.setPassword(mailSenderConfiguration.getPassword());
         javaMailSender.setPort(mailSenderConfiguration.getPort());
         Properties properties = new Properties();
-        properties.setProperty("mail.smtp.auth", "true");
-        properties.setProperty("mail.smtp.ssl.enable", "true");
+        properties.setProperty("mail.smtp.auth", String.valueOf(mailSenderConfiguration.isAuth()));
+        properties.setProperty("mail.smtp.ssl.enable", String.valueOf(mailSenderConfiguration.isSsl()));
+        properties.setProperty("mail.smtp.connectiontimeout", String.valueOf(mailSenderConfiguration.getTimeout().toMillis()));
+        properties.setProperty("mail.smtp.timeout", String.valueOf(mailSenderConfiguration.getTimeout().toMillis()));
+        properties.setProperty("mail.smtp.writetimeout", String.valueOf(mailSenderConfiguration.getTimeout().toMillis()));
         javaMailSender.setJavaMailProperties(properties);
         return javaMailSender;
     }
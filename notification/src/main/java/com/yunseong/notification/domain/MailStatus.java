@@ -0,0 +1,5 @@
+package com.yunseong.notification.domain;
+
+public enum MailStatus {
+    PENDING, SENT, DEAD
+}
@@ -0,0 +1,84 @@
+package com.yunseong.notification.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_outbound_mail_due", columnList = "status, nextAttemptTime"))
+public class OutboundMail {
+
+    @Id
+    @GeneratedValue(generator = "outbound_mail_seq")
+    @GenericGenerator(name = "outbound_mail_seq", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+            @Parameter(name = "sequence_name", value = "outbound_mail_seq"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+    })
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private String recipient;
+
+    @Column(nullable = false, updatable = false)
+    private String subject;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private MailStatus status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptTime;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    @CreatedDate
+    private LocalDateTime createdDate;
+
+    private LocalDateTime sentTime;
+
+    public OutboundMail(String recipient, String subject, String content, LocalDateTime now) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.content = content;
+        this.status = MailStatus.PENDING;
+        this.nextAttemptTime = now;
+    }
+
+    public void lease(LocalDateTime until) {
+        this.attempts++;
+        this.nextAttemptTime = until;
+    }
+
+    public void sent(LocalDateTime now) {
+        this.status = MailStatus.SENT;
+        this.sentTime = now;
+        this.lastError = null;
+    }
+
+    public void failed(String error, LocalDateTime retryTime, int maxAttempts) {
+        this.lastError = error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+        if (this.attempts >= maxAttempts) {
+            this.status = MailStatus.DEAD;
+        } else {
+            this.nextAttemptTime = retryTime;
+        }
+    }
+}
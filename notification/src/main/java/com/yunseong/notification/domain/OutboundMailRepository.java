@@ -0,0 +1,25 @@
+package com.yunseong.notification.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboundMailRepository extends JpaRepository<OutboundMail, Long> {
+
+    @Query(value = "select * from outbound_mail where status = :status and next_attempt_time <= :now order by next_attempt_time, id limit :limit for update skip locked", nativeQuery = true)
+    List<OutboundMail> findDueForUpdate(String status, LocalDateTime now, int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboundMail m set m.status = :status, m.sentTime = :now, m.lastError = null where m.id in :ids")
+    int markSent(Collection<Long> ids, MailStatus status, LocalDateTime now);
+
+    @Modifying
+    @Query("delete from OutboundMail m where m.status = :status and m.sentTime < :before")
+    int deleteSentBefore(MailStatus status, LocalDateTime before);
+}
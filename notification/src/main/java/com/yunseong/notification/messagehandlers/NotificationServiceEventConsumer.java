@@ -2,6 +2,8 @@ package com.yunseong.notification.messagehandlers;
 
 import com.yunseong.common.AES256Util;
 import com.yunseong.member.api.controller.events.MemberSignedEvent;
+import com.yunseong.notification.domain.Notification;
+import com.yunseong.notification.domain.OutboundMail;
 import com.yunseong.notification.service.NotificationService;
 import com.yunseong.project.api.event.*;
 import io.eventuate.tram.events.subscriber.DomainEventEnvelope;
@@ -9,12 +11,22 @@ import io.eventuate.tram.events.subscriber.DomainEventHandlers;
 import io.eventuate.tram.events.subscriber.DomainEventHandlersBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class NotificationServiceEventConsumer {
 
     @Autowired
     private NotificationService notificationService;
     @Autowired
     private AES256Util aes256Util;
+    @Autowired
+    private Clock clock;
 
     public DomainEventHandlers domainEventHandlers() {
         return DomainEventHandlersBuilder
@@ -45,56 +57,73 @@ public class NotificationServiceEventConsumer {
     }
 
     private void createNotificationProjectCanceled(DomainEventEnvelope<ProjectCancelledEvent> event) {
-        event.getEvent().getUsernames().forEach(u ->
-                this.sendNotification(u, "(" + event.getEvent().getId() + ")프로젝트 알림", "해당 프로젝트가 취소되었습니다", true));
+        this.sendNotifications(toNotifications(event.getEvent().getUsernames(), "(" + event.getEvent().getId() + ")프로젝트 알림", "해당 프로젝트가 취소되었습니다"), true);
     }
 
     private void createNotificationProjectRejected(DomainEventEnvelope<ProjectRejectedEvent> event) {
-        event.getEvent().getUsernames().forEach(u ->
-                this.sendNotification(u, "(" + event.getEvent().getId() + ")프로젝트 알림", "해당 프로젝트가 거절되었습니다", true));
+        this.sendNotifications(toNotifications(event.getEvent().getUsernames(), "(" + event.getEvent().getId() + ")프로젝트 알림", "해당 프로젝트가 거절되었습니다"), true);
     }
+
     private void createNotificationProjectStarted(DomainEventEnvelope<ProjectStartedEvent> event) {
-        event.getEvent().getUsernames().forEach(System.out::println);
-        event.getEvent().getUsernames().forEach(u ->
-                this.sendNotification(u, "(" + event.getEvent().getId() + ")프로젝트 알림", "해당 프로젝트가 시작되었습니다!", true));
+        this.sendNotifications(toNotifications(event.getEvent().getUsernames(), "(" + event.getEvent().getId() + ")프로젝트 알림", "해당 프로젝트가 시작되었습니다!"), true);
     }
 
-
     private void createNotificationOfNewTeamMember(DomainEventEnvelope<TeamJoinedEvent> event) {
-        this.sendNotification(event.getEvent().getUsername(), "(" + event.getEvent().getProjectId() + ")프로젝트 알림", "신규 프로젝트에 가입하였습니다.", false);
+        String subject = "(" + event.getEvent().getProjectId() + ")프로젝트 알림";
+        List<Notification> notifications = new ArrayList<>();
+        notifications.add(new Notification(event.getEvent().getUsername(), subject, "신규 프로젝트에 가입하였습니다."));
         event.getEvent().getTeamMembers().forEach(m -> {
-            if(!m.getUsername().equals(event.getEvent().getUsername())) this.sendNotification(m.getUsername(),
-                    "(" + event.getEvent().getProjectId() + ")프로젝트 알림", event.getEvent().getUsername() + "님이 프로젝트를 가입하였습니다.", false);
+            if(!m.getUsername().equals(event.getEvent().getUsername()))
+                notifications.add(new Notification(m.getUsername(), subject, event.getEvent().getUsername() + "님이 프로젝트를 가입하였습니다."));
         });
+        this.sendNotifications(notifications, false);
     }
 
     private void createNotificationTeamAuthorizeRequest(DomainEventEnvelope<TeamAuthorizeVoteRequestedEvent> event) {
+        String subject = "(" + event.getEvent().getProjectId() + ")프로젝트 알림";
+        List<Notification> notifications = new ArrayList<>();
         for (TeamMemberDetail teamMember : event.getEvent().getTeamMembers()) {
             try {
-                this.sendNotification(teamMember.getUsername(), "(" + event.getEvent().getProjectId() + ")프로젝트 알림", "프로젝트 시작을 위한 인증번호 코드 발급안내|코드번호 : "+ aes256Util.encrypt(event.getAggregateId() + "SPLIT" + teamMember.getUsername()), true);
+                notifications.add(new Notification(teamMember.getUsername(), subject, "프로젝트 시작을 위한 인증번호 코드 발급안내|코드번호 : "+ aes256Util.encrypt(event.getAggregateId() + "SPLIT" + teamMember.getUsername())));
             } catch (Exception e) {
                 e.printStackTrace();
             }
         }
+        this.sendNotifications(notifications, true);
     }
 
     private void createNotificationTeamQuit(DomainEventEnvelope<TeamQuitEvent> event) {
-        this.sendNotification(event.getEvent().getUsername(), "(" + event.getEvent().getProjectId() + ")프로젝트 알림", "해당 프로젝트를 탈퇴하였습니다.", false);
+        String subject = "(" + event.getEvent().getProjectId() + ")프로젝트 알림";
+        List<Notification> notifications = new ArrayList<>();
+        notifications.add(new Notification(event.getEvent().getUsername(), subject, "해당 프로젝트를 탈퇴하였습니다."));
         event.getEvent().getTeamMembers().forEach(m -> {
-            if(!m.getUsername().equals(event.getEvent().getUsername())) this.sendNotification(m.getUsername(), "(" + event.getEvent().getProjectId() + ")프로젝트 알림",
-                    event.getEvent().getUsername() + "님이 프로젝트를 탈퇴하였습니다.", false);
+            if(!m.getUsername().equals(event.getEvent().getUsername()))
+                notifications.add(new Notification(m.getUsername(), subject, event.getEvent().getUsername() + "님이 프로젝트를 탈퇴하였습니다."));
         });
+        this.sendNotifications(notifications, false);
     }
 
     private void sendNotification(String username, String subject, String content, boolean mail) {
-        this.notificationService.createNotification(username, subject, content);
+        this.sendNotifications(List.of(new Notification(username, subject, content)), mail);
+    }
+
+    private void sendNotifications(List<Notification> notifications, boolean mail) {
         String prefix = "[Project-Sea]";
-        if(mail) {
-            this.notificationService.sendMail(username, prefix + subject,
-                    "<div style=\"font-family: Arial, Helvetica, sans-serif; text-align: center\">\n" +
-                            "  <h1>" + subject + "</h1>\n" +
-                            "  <hr>\n<p>" + String.join("</p><p>", content.split("\\|")) +
-                            "</p></div>");
-        }
+        LocalDateTime now = LocalDateTime.now(this.clock);
+        List<OutboundMail> mails = !mail ? Collections.emptyList() : notifications.stream()
+                .map(n -> new OutboundMail(n.getUsername(), prefix + n.getSubject(), toMailContent(n.getSubject(), n.getContent()), now))
+                .collect(Collectors.toList());
+        this.notificationService.createNotifications(notifications, mails);
+    }
+
+    private static List<Notification> toNotifications(Collection<String> usernames, String subject, String content) {
+        return usernames.stream().map(u -> new Notification(u, subject, content)).collect(Collectors.toList());
+    }
+
+    static String toMailContent(String subject, String content) {
+        return "<div style=\"font-family: Arial, Helvetica, sans-serif; text-align: center\">\n" +
+                "  <h1>" + subject + "</h1>\n" +
+                "  <hr>\n<p>" + String.join("</p><p>", content.split("\\|")) +
+                "</p></div>";
     }
 }
@@ -0,0 +1,31 @@
+package com.yunseong.notification.scheduler;
+
+import com.yunseong.notification.config.MailOutboxConfiguration;
+import com.yunseong.notification.service.MailDispatcher;
+import com.yunseong.notification.service.MailOutboxService;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+@Component
+@AllArgsConstructor
+public class MailOutboxScheduler {
+
+    private final MailDispatcher mailDispatcher;
+    private final MailOutboxService mailOutboxService;
+    private final MailOutboxConfiguration mailOutboxConfiguration;
+    private final Clock clock;
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:1000}")
+    public void dispatch() {
+        this.mailDispatcher.dispatch();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.janitor-interval:3600000}")
+    public void purgeSent() {
+        this.mailOutboxService.purgeSent(LocalDateTime.now(this.clock).minus(this.mailOutboxConfiguration.getSentRetention()));
+    }
+}
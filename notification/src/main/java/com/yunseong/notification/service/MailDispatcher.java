@@ -0,0 +1,110 @@
+package com.yunseong.notification.service;
+
+import com.yunseong.notification.config.MailOutboxConfiguration;
+import com.yunseong.notification.config.MailSenderConfiguration;
+import com.yunseong.notification.domain.OutboundMail;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+@Component
+public class MailDispatcher {
+
+    private final JavaMailSender javaMailSender;
+    private final MailOutboxService mailOutboxService;
+    private final MailSenderConfiguration mailSenderConfiguration;
+    private final Executor executor;
+    private final Semaphore workers;
+    private final TokenBucket tokenBucket;
+    private final int batchSize;
+
+    public MailDispatcher(JavaMailSender javaMailSender, MailOutboxService mailOutboxService, MailSenderConfiguration mailSenderConfiguration,
+                          MailOutboxConfiguration mailOutboxConfiguration, @Qualifier("mail") Executor executor) {
+        this.javaMailSender = javaMailSender;
+        this.mailOutboxService = mailOutboxService;
+        this.mailSenderConfiguration = mailSenderConfiguration;
+        this.executor = executor;
+        this.workers = new Semaphore(Math.max(1, mailOutboxConfiguration.getWorkers()));
+        this.tokenBucket = new TokenBucket(mailOutboxConfiguration.getPermitsPerSecond(), Math.max(1, mailOutboxConfiguration.getBurst()));
+        this.batchSize = Math.max(1, mailOutboxConfiguration.getBatchSize());
+    }
+
+    public void dispatch() {
+        while (this.workers.tryAcquire()) {
+            boolean submitted = false;
+            try {
+                int permits = this.tokenBucket.tryAcquire(this.batchSize);
+                if (permits == 0) return;
+                List<OutboundMail> batch = this.claim(permits);
+                if (batch.isEmpty()) return;
+                this.executor.execute(() -> {
+                    try {
+                        this.send(batch);
+                    } finally {
+                        this.workers.release();
+                    }
+                });
+                submitted = true;
+            } finally {
+                if (!submitted) this.workers.release();
+            }
+        }
+    }
+
+    private List<OutboundMail> claim(int permits) {
+        List<OutboundMail> batch = Collections.emptyList();
+        try {
+            batch = this.mailOutboxService.claim(permits);
+            return batch;
+        } finally {
+            this.tokenBucket.release(permits - batch.size());
+        }
+    }
+
+    void send(List<OutboundMail> batch) {
+        Map<MimeMessage, Long> messages = new LinkedHashMap<>();
+        Map<Long, String> failures = new HashMap<>();
+        for (OutboundMail mail : batch) {
+            try {
+                messages.put(this.toMimeMessage(mail), mail.getId());
+            } catch (MessagingException e) {
+                failures.put(mail.getId(), e.getMessage());
+            }
+        }
+        if (!messages.isEmpty()) {
+            try {
+                this.javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                if (e.getFailedMessages().isEmpty()) messages.values().forEach(id -> failures.put(id, e.getMessage()));
+                e.getFailedMessages().forEach((message, cause) -> {
+                    Long id = messages.get(message);
+                    if (id != null) failures.put(id, cause.getMessage());
+                });
+            } catch (MailException e) {
+                messages.values().forEach(id -> failures.put(id, e.getMessage()));
+            }
+        }
+        List<Long> sent = messages.values().stream().filter(id -> !failures.containsKey(id)).collect(Collectors.toList());
+        this.mailOutboxService.complete(sent, failures);
+    }
+
+    private MimeMessage toMimeMessage(OutboundMail mail) throws MessagingException {
+        MimeMessage mimeMessage = this.javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        helper.setFrom(this.mailSenderConfiguration.getUsername() + "@naver.com");
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getContent(), true);
+        return mimeMessage;
+    }
+}
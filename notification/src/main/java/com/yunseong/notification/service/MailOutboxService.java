@@ -0,0 +1,61 @@
+package com.yunseong.notification.service;
+
+import com.yunseong.notification.config.MailOutboxConfiguration;
+import com.yunseong.notification.domain.MailStatus;
+import com.yunseong.notification.domain.OutboundMail;
+import com.yunseong.notification.domain.OutboundMailRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+@AllArgsConstructor
+public class MailOutboxService {
+
+    private final OutboundMailRepository outboundMailRepository;
+    private final MailOutboxConfiguration mailOutboxConfiguration;
+    private final Clock clock;
+
+    public List<OutboundMail> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now(this.clock);
+        int maxAttempts = this.mailOutboxConfiguration.getMaxAttempts();
+        List<OutboundMail> claimed = new ArrayList<>();
+        for (OutboundMail mail : this.outboundMailRepository.findDueForUpdate(MailStatus.PENDING.name(), now, limit)) {
+            if (mail.getAttempts() >= maxAttempts) {
+                mail.failed("전송 결과가 기록되지 않은 채 lease가 만료되었습니다.", now, maxAttempts);
+                continue;
+            }
+            mail.lease(now.plus(this.mailOutboxConfiguration.getLease()));
+            claimed.add(mail);
+        }
+        return claimed;
+    }
+
+    public void complete(Collection<Long> sentIds, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now(this.clock);
+        if (!sentIds.isEmpty()) this.outboundMailRepository.markSent(sentIds, MailStatus.SENT, now);
+        if (failures.isEmpty()) return;
+        for (OutboundMail mail : this.outboundMailRepository.findAllById(failures.keySet())) {
+            mail.failed(failures.get(mail.getId()), now.plus(this.backoff(mail.getAttempts())), this.mailOutboxConfiguration.getMaxAttempts());
+        }
+    }
+
+    public int purgeSent(LocalDateTime before) {
+        return this.outboundMailRepository.deleteSentBefore(MailStatus.SENT, before);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = this.mailOutboxConfiguration.getInitialBackoff().multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        Duration maxBackoff = this.mailOutboxConfiguration.getMaxBackoff();
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
@@ -0,0 +1,42 @@
+package com.yunseong.notification.service;
+
+import java.util.function.LongSupplier;
+
+public class TokenBucket {
+
+    private final double permitsPerNano;
+    private final int capacity;
+    private final LongSupplier nanoTime;
+    private double tokens;
+    private long refillTime;
+
+    public TokenBucket(double permitsPerSecond, int capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int capacity, LongSupplier nanoTime) {
+        if (permitsPerSecond <= 0 || capacity <= 0) throw new IllegalArgumentException("permitsPerSecond와 capacity는 0보다 커야 합니다.");
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.capacity = capacity;
+        this.nanoTime = nanoTime;
+        this.tokens = capacity;
+        this.refillTime = nanoTime.getAsLong();
+    }
+
+    public synchronized int tryAcquire(int permits) {
+        this.refill();
+        int granted = (int) Math.min(permits, Math.floor(this.tokens));
+        if (granted > 0) this.tokens -= granted;
+        return Math.max(granted, 0);
+    }
+
+    public synchronized void release(int permits) {
+        if (permits > 0) this.tokens = Math.min(this.capacity, this.tokens + permits);
+    }
+
+    private void refill() {
+        long now = this.nanoTime.getAsLong();
+        this.tokens = Math.min(this.capacity, this.tokens + (now - this.refillTime) * this.permitsPerNano);
+        this.refillTime = now;
+    }
+}
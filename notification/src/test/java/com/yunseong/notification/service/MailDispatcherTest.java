@@ -0,0 +1,121 @@
+package com.yunseong.notification.service;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.yunseong.notification.config.MailOutboxConfiguration;
+import com.yunseong.notification.config.MailSenderConfiguration;
+import com.yunseong.notification.domain.MailStatus;
+import com.yunseong.notification.domain.OutboundMail;
+import com.yunseong.notification.domain.OutboundMailRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.mail.internet.MimeMessage;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MailDispatcherTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2020-10-01T00:00:00Z"), ZoneOffset.UTC);
+    private final LocalDateTime now = LocalDateTime.now(this.clock);
+    private final OutboundMailRepository outboundMailRepository = mock(OutboundMailRepository.class);
+    private final MailOutboxConfiguration mailOutboxConfiguration = new MailOutboxConfiguration();
+    private final MailSenderConfiguration mailSenderConfiguration = new MailSenderConfiguration();
+    private final JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+    private GreenMail greenMail;
+    private MailOutboxService mailOutboxService;
+    private MailDispatcher mailDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        this.greenMail = new GreenMail(ServerSetupTest.SMTP);
+        this.greenMail.start();
+        this.javaMailSender.setHost("localhost");
+        this.javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+        this.mailSenderConfiguration.setUsername("projector");
+        this.mailOutboxConfiguration.setMaxAttempts(2);
+        this.mailOutboxService = new MailOutboxService(this.outboundMailRepository, this.mailOutboxConfiguration, this.clock);
+        this.mailDispatcher = new MailDispatcher(this.javaMailSender, this.mailOutboxService, this.mailSenderConfiguration, this.mailOutboxConfiguration, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.greenMail.stop();
+    }
+
+    @Test
+    void 선점한_메일을_보내고_SENT로_기록한다() throws Exception {
+        List<OutboundMail> mails = Arrays.asList(this.mail(1L, "a@test.com"), this.mail(2L, "b@test.com"));
+        when(this.outboundMailRepository.findDueForUpdate(eq(MailStatus.PENDING.name()), eq(this.now), anyInt())).thenReturn(mails, List.of());
+
+        this.mailDispatcher.dispatch();
+
+        MimeMessage[] received = this.greenMail.getReceivedMessages();
+        assertThat(received).extracting(m -> m.getAllRecipients()[0].toString()).containsExactlyInAnyOrder("a@test.com", "b@test.com");
+        assertThat(received).extracting(MimeMessage::getSubject).containsOnly("subject");
+        assertThat(mails).extracting(OutboundMail::getAttempts).containsOnly(1);
+        assertThat(mails).extracting(OutboundMail::getNextAttemptTime).containsOnly(this.now.plus(this.mailOutboxConfiguration.getLease()));
+        verify(this.outboundMailRepository).markSent(Arrays.asList(1L, 2L), MailStatus.SENT, this.now);
+    }
+
+    @Test
+    void 전송에_실패하면_재시도하고_maxAttempts를_넘으면_DEAD로_기록한다() {
+        this.greenMail.stop();
+        OutboundMail mail = this.mail(1L, "a@test.com");
+        List<OutboundMail> batch = List.of(mail);
+        when(this.outboundMailRepository.findAllById(any())).thenReturn(batch);
+
+        this.claimAndSend(batch);
+
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getNextAttemptTime()).isEqualTo(this.now.plus(this.mailOutboxConfiguration.getInitialBackoff()));
+        assertThat(mail.getLastError()).isNotNull();
+
+        this.claimAndSend(batch);
+
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.DEAD);
+        assertThat(mail.getAttempts()).isEqualTo(2);
+        verify(this.outboundMailRepository, never()).markSent(eq(List.of(1L)), any(), any());
+        assertThat(this.greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void lease가_만료된_메일은_maxAttempts를_넘으면_다시_선점하지_않는다() {
+        OutboundMail mail = this.mail(1L, "a@test.com");
+        ReflectionTestUtils.setField(mail, "attempts", 2);
+        when(this.outboundMailRepository.findDueForUpdate(anyString(), any(), anyInt())).thenReturn(List.of(mail));
+
+        assertThat(this.mailOutboxService.claim(20)).isEmpty();
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.DEAD);
+    }
+
+    private void claimAndSend(List<OutboundMail> batch) {
+        when(this.outboundMailRepository.findDueForUpdate(anyString(), any(), anyInt())).thenReturn(batch, List.of());
+        this.mailDispatcher.dispatch();
+    }
+
+    private OutboundMail mail(long id, String recipient) {
+        OutboundMail mail = new OutboundMail(recipient, "subject", "<p>content</p>", this.now.minus(Duration.ofMinutes(1)));
+        ReflectionTestUtils.setField(mail, "id", id);
+        return mail;
+    }
+}
@@ -0,0 +1,61 @@
+package com.yunseong.notification.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void 처음에는_capacity만큼_발급한다() {
+        TokenBucket tokenBucket = new TokenBucket(5, 20, this.nanoTime::get);
+
+        assertThat(tokenBucket.tryAcquire(30)).isEqualTo(20);
+        assertThat(tokenBucket.tryAcquire(1)).isZero();
+    }
+
+    @Test
+    void 경과한_시간만큼_채워진다() {
+        TokenBucket tokenBucket = new TokenBucket(5, 20, this.nanoTime::get);
+        tokenBucket.tryAcquire(20);
+
+        this.nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(tokenBucket.tryAcquire(20)).isEqualTo(2);
+
+        this.nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(tokenBucket.tryAcquire(20)).isEqualTo(3);
+    }
+
+    @Test
+    void 오래_쉬어도_capacity를_넘지_않는다() {
+        TokenBucket tokenBucket = new TokenBucket(5, 20, this.nanoTime::get);
+        tokenBucket.tryAcquire(20);
+
+        this.nanoTime.addAndGet(TimeUnit.HOURS.toNanos(1));
+        assertThat(tokenBucket.tryAcquire(100)).isEqualTo(20);
+    }
+
+    @Test
+    void 반납한_토큰은_다시_발급하되_capacity를_넘지_않는다() {
+        TokenBucket tokenBucket = new TokenBucket(5, 20, this.nanoTime::get);
+        tokenBucket.tryAcquire(15);
+
+        tokenBucket.release(20);
+        assertThat(tokenBucket.tryAcquire(100)).isEqualTo(20);
+
+        tokenBucket.release(-3);
+        assertThat(tokenBucket.tryAcquire(1)).isZero();
+    }
+
+    @Test
+    void 속도와_capacity는_0보다_커야_한다() {
+        assertThatThrownBy(() -> new TokenBucket(0, 20, this.nanoTime::get)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(5, 0, this.nanoTime::get)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
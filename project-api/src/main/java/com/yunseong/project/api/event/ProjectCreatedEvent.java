@@ -5,6 +5,11 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 @AllArgsConstructor
 public class ProjectCreatedEvent implements ProjectEvent {
+
+    private String username;
+    private ProjectDetail projectDetail;
 }
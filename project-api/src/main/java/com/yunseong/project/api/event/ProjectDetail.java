@@ -12,4 +12,5 @@ public class ProjectDetail {
 
     private String subject;
     private String content;
+    private boolean open;
 }
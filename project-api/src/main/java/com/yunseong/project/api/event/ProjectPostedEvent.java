@@ -0,0 +1,14 @@
+package com.yunseong.project.api.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class ProjectPostedEvent implements ProjectEvent {
+
+    private long id;
+}
@@ -0,0 +1,15 @@
+package com.yunseong.project.api.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class ProjectRevisedEvent implements ProjectEvent {
+
+    private long id;
+    private ProjectDetail projectDetail;
+}
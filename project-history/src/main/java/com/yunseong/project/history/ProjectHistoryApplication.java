@@ -1,8 +1,14 @@
 package com.yunseong.project.history;
 
+import com.yunseong.common.CommonConfiguration;
+import com.yunseong.project.history.config.ProjectHistoryLockConfiguration;
+import com.yunseong.project.history.config.ProjectHistoryServiceMessageHandlersConfiguration;
+import io.eventuate.tram.spring.jdbckafka.TramJdbcKafkaConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
+@Import({TramJdbcKafkaConfiguration.class, ProjectHistoryServiceMessageHandlersConfiguration.class, ProjectHistoryLockConfiguration.class, CommonConfiguration.class})
 @SpringBootApplication
 public class ProjectHistoryApplication {
 
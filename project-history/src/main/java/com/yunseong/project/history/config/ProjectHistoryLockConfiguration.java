@@ -0,0 +1,15 @@
+package com.yunseong.project.history.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.integration.redis.util.RedisLockRegistry;
+
+@Configuration
+public class ProjectHistoryLockConfiguration {
+
+    @Bean
+    public RedisLockRegistry projectHistoryLockRegistry(RedisConnectionFactory redisConnectionFactory) {
+        return new RedisLockRegistry(redisConnectionFactory, "project-history-lock");
+    }
+}
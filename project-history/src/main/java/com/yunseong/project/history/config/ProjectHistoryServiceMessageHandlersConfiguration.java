@@ -0,0 +1,24 @@
+package com.yunseong.project.history.config;
+
+import com.yunseong.project.history.messagehandlers.ProjectHistoryEventConsumer;
+import io.eventuate.tram.events.subscriber.DomainEventDispatcher;
+import io.eventuate.tram.events.subscriber.DomainEventDispatcherFactory;
+import io.eventuate.tram.spring.events.subscriber.TramEventSubscriberConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+@Configuration
+@Import({TramEventSubscriberConfiguration.class})
+public class ProjectHistoryServiceMessageHandlersConfiguration {
+
+    @Bean
+    public ProjectHistoryEventConsumer projectHistoryEventConsumer() {
+        return new ProjectHistoryEventConsumer();
+    }
+
+    @Bean
+    public DomainEventDispatcher domainEventDispatcher(ProjectHistoryEventConsumer projectHistoryEventConsumer, DomainEventDispatcherFactory domainEventDispatcherFactory) {
+        return domainEventDispatcherFactory.make("projectHistoryServiceEvents", projectHistoryEventConsumer.domainEventHandlers());
+    }
+}
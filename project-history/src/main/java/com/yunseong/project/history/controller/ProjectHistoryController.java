@@ -0,0 +1,52 @@
+package com.yunseong.project.history.controller;
+
+import com.yunseong.project.history.domain.Member;
+import com.yunseong.project.history.domain.ProjectHistory;
+import com.yunseong.project.history.service.ProjectHistoryService;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping(value = "/project-histories", produces = MediaType.APPLICATION_JSON_VALUE)
+@AllArgsConstructor
+public class ProjectHistoryController {
+
+    private final ProjectHistoryService projectHistoryService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ProjectHistoryResponse> findProject(@PathVariable long id) {
+        return ResponseEntity.ok(this.toResponse(this.projectHistoryService.findProject(id)));
+    }
+
+    @GetMapping("/{id}/members")
+    public ResponseEntity<List<ProjectHistoryMemberResponse>> findMembers(@PathVariable long id) {
+        return ResponseEntity.ok(this.toMemberResponses(this.projectHistoryService.findMembers(id)));
+    }
+
+    @GetMapping("/members/{username}")
+    public ResponseEntity<List<ProjectHistoryResponse>> findMyProjects(@PathVariable String username, @PageableDefault Pageable pageable) {
+        return ResponseEntity.ok(this.projectHistoryService.findMyProjects(username, pageable).stream().map(this::toResponse).collect(Collectors.toList()));
+    }
+
+    private ProjectHistoryResponse toResponse(ProjectHistory history) {
+        return new ProjectHistoryResponse(history.getId(), history.getWeClassId(),
+                history.getProjectInfo() != null ? history.getProjectInfo().getProjectSubject() : null,
+                history.getProjectInfo() != null ? history.getProjectInfo().getProjectContent() : null,
+                history.getProjectInfo() != null ? history.getProjectInfo().getProjectState() : null,
+                this.toMemberResponses(history.getMembers()));
+    }
+
+    private List<ProjectHistoryMemberResponse> toMemberResponses(List<Member> members) {
+        return members.stream().map(m -> new ProjectHistoryMemberResponse(m.getUsername(), m.getTeamPermission())).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,19 @@
+package com.yunseong.project.history.controller;
+
+import com.yunseong.project.history.service.ProjectHistoryNotFoundException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ProjectHistoryControllerAdvice {
+
+    @ExceptionHandler(ProjectHistoryNotFoundException.class)
+    public ResponseEntity<?> handleProjectHistoryNotFoundException(ProjectHistoryNotFoundException exception) {
+        Errors errors = new BeanPropertyBindingResult(null, "");
+        errors.reject("notFound", exception.getMessage());
+        return ResponseEntity.badRequest().body(errors.getAllErrors());
+    }
+}
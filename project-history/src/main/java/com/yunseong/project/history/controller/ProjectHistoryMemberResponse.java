@@ -0,0 +1,13 @@
+package com.yunseong.project.history.controller;
+
+import com.yunseong.project.api.event.TeamPermission;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectHistoryMemberResponse {
+
+    private final String username;
+    private final TeamPermission teamPermission;
+}
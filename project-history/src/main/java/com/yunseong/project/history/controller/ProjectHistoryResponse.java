@@ -0,0 +1,19 @@
+package com.yunseong.project.history.controller;
+
+import com.yunseong.project.api.event.ProjectState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ProjectHistoryResponse {
+
+    private final long id;
+    private final Long weClassId;
+    private final String subject;
+    private final String content;
+    private final ProjectState state;
+    private final List<ProjectHistoryMemberResponse> members;
+}
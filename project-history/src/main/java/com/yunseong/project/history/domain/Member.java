@@ -1,13 +1,18 @@
 package com.yunseong.project.history.domain;
 
 import com.yunseong.project.api.event.TeamPermission;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.redis.core.index.Indexed;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 @AllArgsConstructor
 public class Member {
 
+    @Indexed
     private String username;
     private TeamPermission teamPermission;
 }
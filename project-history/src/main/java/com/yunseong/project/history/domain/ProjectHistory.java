@@ -1,14 +1,21 @@
 package com.yunseong.project.history.domain;
 
-
+import com.yunseong.project.api.event.ProjectDetail;
+import com.yunseong.project.api.event.ProjectState;
+import com.yunseong.project.api.event.TeamPermission;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.index.Indexed;
 
-import javax.persistence.Id;
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @RedisHash("project")
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ProjectHistory {
 
     @Id
@@ -16,7 +23,34 @@ public class ProjectHistory {
 
     private Long weClassId;
 
+    @Indexed
+    private boolean open;
+
     private ProjectInfo projectInfo;
 
-    private List<Member> members;
+    private List<Member> members = new ArrayList<>();
+
+    public ProjectHistory(Long id) {
+        this.id = id;
+    }
+
+    public void created(String username, ProjectDetail projectDetail) {
+        this.open = projectDetail.isOpen();
+        this.projectInfo = new ProjectInfo(projectDetail.getSubject(), projectDetail.getContent(), this.projectInfo != null ? this.projectInfo.getProjectState() : ProjectState.POST_PENDING);
+        if(this.members.isEmpty())
+            this.members.add(new Member(username, TeamPermission.LEADER));
+    }
+
+    public void revised(ProjectDetail projectDetail) {
+        this.open = projectDetail.isOpen();
+        this.projectInfo = new ProjectInfo(projectDetail.getSubject(), projectDetail.getContent(), ProjectState.POSTED);
+    }
+
+    public void changeState(ProjectState projectState) {
+        this.projectInfo = this.projectInfo != null ? new ProjectInfo(this.projectInfo.getProjectSubject(), this.projectInfo.getProjectContent(), projectState) : new ProjectInfo(null, null, projectState);
+    }
+
+    public void changeMembers(List<Member> members) {
+        this.members = new ArrayList<>(members);
+    }
 }
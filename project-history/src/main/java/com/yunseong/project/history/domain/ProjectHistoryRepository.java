@@ -1,8 +1,13 @@
 package com.yunseong.project.history.domain;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface ProjectHistoryRepository extends JpaRepository, ProjectHistoryRedisRepository {
+public interface ProjectHistoryRepository extends CrudRepository<ProjectHistory, Long>, ProjectHistoryRedisRepository {
+
+    List<ProjectHistory> findByMembersUsernameAndOpen(String username, boolean open, Pageable pageable);
 }
@@ -1,10 +1,13 @@
 package com.yunseong.project.history.domain;
 
 import com.yunseong.project.api.event.ProjectState;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 @AllArgsConstructor
 public class ProjectInfo {
 
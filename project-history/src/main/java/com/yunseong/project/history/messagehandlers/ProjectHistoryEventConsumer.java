@@ -0,0 +1,67 @@
+package com.yunseong.project.history.messagehandlers;
+
+import com.yunseong.project.api.event.*;
+import com.yunseong.project.history.service.ProjectHistoryService;
+import io.eventuate.tram.events.subscriber.DomainEventEnvelope;
+import io.eventuate.tram.events.subscriber.DomainEventHandlers;
+import io.eventuate.tram.events.subscriber.DomainEventHandlersBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class ProjectHistoryEventConsumer {
+
+    @Autowired
+    private ProjectHistoryService projectHistoryService;
+
+    public DomainEventHandlers domainEventHandlers() {
+        return DomainEventHandlersBuilder
+                .forAggregateType("com.yunseong.project.domain.Project")
+                .onEvent(ProjectCreatedEvent.class, this::createProject)
+                .onEvent(ProjectPostedEvent.class, this::postProject)
+                .onEvent(ProjectRevisedEvent.class, this::reviseProject)
+                .onEvent(ProjectStartedEvent.class, this::startProject)
+                .onEvent(ProjectRejectedEvent.class, this::rejectProject)
+                .onEvent(ProjectCancelledEvent.class, this::cancelProject)
+                .andForAggregateType("com.yunseong.team.domain.Team")
+                .onEvent(TeamJoinedEvent.class, this::joinMember)
+                .onEvent(TeamQuitEvent.class, this::quitMember)
+                .onEvent(TeamAuthorizeVoteRequestedEvent.class, this::closeProject)
+                .build();
+    }
+
+    private void createProject(DomainEventEnvelope<ProjectCreatedEvent> event) {
+        this.projectHistoryService.createProject(Long.parseLong(event.getAggregateId()), event.getEvent().getUsername(), event.getEvent().getProjectDetail());
+    }
+
+    private void postProject(DomainEventEnvelope<ProjectPostedEvent> event) {
+        this.projectHistoryService.changeState(Long.parseLong(event.getAggregateId()), ProjectState.POSTED);
+    }
+
+    private void reviseProject(DomainEventEnvelope<ProjectRevisedEvent> event) {
+        this.projectHistoryService.reviseProject(Long.parseLong(event.getAggregateId()), event.getEvent().getProjectDetail());
+    }
+
+    private void startProject(DomainEventEnvelope<ProjectStartedEvent> event) {
+        this.projectHistoryService.changeState(Long.parseLong(event.getAggregateId()), ProjectState.STARTED);
+    }
+
+    private void rejectProject(DomainEventEnvelope<ProjectRejectedEvent> event) {
+        this.projectHistoryService.changeState(Long.parseLong(event.getAggregateId()), ProjectState.REJECTED);
+    }
+
+    private void cancelProject(DomainEventEnvelope<ProjectCancelledEvent> event) {
+        this.projectHistoryService.changeState(Long.parseLong(event.getAggregateId()), ProjectState.CANCELLED);
+    }
+
+    private void joinMember(DomainEventEnvelope<TeamJoinedEvent> event) {
+        this.projectHistoryService.changeMembers(event.getEvent().getProjectId(), event.getEvent().getTeamMembers());
+    }
+
+    private void quitMember(DomainEventEnvelope<TeamQuitEvent> event) {
+        this.projectHistoryService.changeMembers(event.getEvent().getProjectId(), event.getEvent().getTeamMembers());
+    }
+
+    private void closeProject(DomainEventEnvelope<TeamAuthorizeVoteRequestedEvent> event) {
+        this.projectHistoryService.changeMembers(event.getEvent().getProjectId(), event.getEvent().getTeamMembers());
+        this.projectHistoryService.changeState(event.getEvent().getProjectId(), ProjectState.CLOSED);
+    }
+}
@@ -0,0 +1,8 @@
+package com.yunseong.project.history.service;
+
+public class ProjectHistoryNotFoundException extends RuntimeException {
+
+    public ProjectHistoryNotFoundException(String message) {
+        super(message);
+    }
+}
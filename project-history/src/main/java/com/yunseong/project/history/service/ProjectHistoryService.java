@@ -0,0 +1,70 @@
+package com.yunseong.project.history.service;
+
+import com.yunseong.project.api.event.ProjectDetail;
+import com.yunseong.project.api.event.ProjectState;
+import com.yunseong.project.api.event.TeamMemberDetail;
+import com.yunseong.project.api.event.TeamMemberState;
+import com.yunseong.project.history.domain.Member;
+import com.yunseong.project.history.domain.ProjectHistory;
+import com.yunseong.project.history.domain.ProjectHistoryRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.integration.redis.util.RedisLockRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+public class ProjectHistoryService {
+
+    private final ProjectHistoryRepository projectHistoryRepository;
+    private final RedisLockRegistry projectHistoryLockRegistry;
+
+    public void createProject(long projectId, String username, ProjectDetail projectDetail) {
+        this.updateProjectHistory(projectId, history -> history.created(username, projectDetail));
+    }
+
+    public void reviseProject(long projectId, ProjectDetail projectDetail) {
+        this.updateProjectHistory(projectId, history -> history.revised(projectDetail));
+    }
+
+    public void changeState(long projectId, ProjectState projectState) {
+        this.updateProjectHistory(projectId, history -> history.changeState(projectState));
+    }
+
+    public void changeMembers(long projectId, List<TeamMemberDetail> teamMembers) {
+        List<Member> members = teamMembers.stream()
+                .filter(tm -> tm.getTeamMemberState() != TeamMemberState.REJECTED)
+                .map(tm -> new Member(tm.getUsername(), tm.getTeamPermission()))
+                .collect(Collectors.toList());
+        this.updateProjectHistory(projectId, history -> history.changeMembers(members));
+    }
+
+    public ProjectHistory findProject(long projectId) {
+        return this.projectHistoryRepository.findById(projectId).orElseThrow(() -> new ProjectHistoryNotFoundException("해당 프로젝트는 존재하지않습니다"));
+    }
+
+    public List<Member> findMembers(long projectId) {
+        return this.findProject(projectId).getMembers();
+    }
+
+    public List<ProjectHistory> findMyProjects(String username, Pageable pageable) {
+        return this.projectHistoryRepository.findByMembersUsernameAndOpen(username, true, pageable);
+    }
+
+    private void updateProjectHistory(long projectId, Consumer<ProjectHistory> func) {
+        Lock lock = this.projectHistoryLockRegistry.obtain(String.valueOf(projectId));
+        lock.lock();
+        try {
+            ProjectHistory projectHistory = this.projectHistoryRepository.findById(projectId).orElseGet(() -> new ProjectHistory(projectId));
+            func.accept(projectHistory);
+            this.projectHistoryRepository.save(projectHistory);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
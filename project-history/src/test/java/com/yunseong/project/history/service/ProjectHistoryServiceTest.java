@@ -0,0 +1,152 @@
+package com.yunseong.project.history.service;
+
+import com.yunseong.project.api.event.ProjectDetail;
+import com.yunseong.project.api.event.ProjectState;
+import com.yunseong.project.api.event.TeamMemberDetail;
+import com.yunseong.project.api.event.TeamMemberState;
+import com.yunseong.project.api.event.TeamPermission;
+import com.yunseong.project.history.domain.Member;
+import com.yunseong.project.history.domain.ProjectHistory;
+import com.yunseong.project.history.domain.ProjectHistoryRedisRepositoryImpl;
+import com.yunseong.project.history.domain.ProjectHistoryRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.support.RedisRepositoryFactory;
+import org.springframework.integration.redis.util.RedisLockRegistry;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectHistoryServiceTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisKeyValueAdapter redisKeyValueAdapter;
+    private static ProjectHistoryService projectHistoryService;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        int port;
+        try(ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        RedisTemplate<byte[], byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        RedisMappingContext mappingContext = new RedisMappingContext();
+        redisKeyValueAdapter = new RedisKeyValueAdapter(redisTemplate, mappingContext);
+        RedisKeyValueTemplate redisKeyValueTemplate = new RedisKeyValueTemplate(redisKeyValueAdapter, mappingContext);
+        ProjectHistoryRepository projectHistoryRepository = new RedisRepositoryFactory(redisKeyValueTemplate)
+                .getRepository(ProjectHistoryRepository.class, new ProjectHistoryRedisRepositoryImpl());
+        projectHistoryService = new ProjectHistoryService(projectHistoryRepository, new RedisLockRegistry(connectionFactory, "project-history-lock"));
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        redisKeyValueAdapter.destroy();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        connectionFactory.getConnection().flushAll();
+    }
+
+    @Test
+    void 순서가_바뀐_이벤트도_합쳐진다() {
+        projectHistoryService.changeMembers(1L, Arrays.asList(member("leader", TeamPermission.LEADER), member("member", TeamPermission.USER)));
+        projectHistoryService.createProject(1L, "leader", new ProjectDetail("subject", "content", true));
+        projectHistoryService.changeState(1L, ProjectState.POSTED);
+
+        ProjectHistory projectHistory = projectHistoryService.findProject(1L);
+        assertThat(projectHistory.getProjectInfo().getProjectSubject()).isEqualTo("subject");
+        assertThat(projectHistory.getProjectInfo().getProjectState()).isEqualTo(ProjectState.POSTED);
+        assertThat(projectHistory.getMembers()).extracting(Member::getUsername).containsExactly("leader", "member");
+    }
+
+    @Test
+    void 동시에_다른_필드를_바꿔도_유실되지_않는다() throws Exception {
+        projectHistoryService.createProject(1L, "leader", new ProjectDetail("subject", "content", true));
+        List<TeamMemberDetail> members = Arrays.asList(member("leader", TeamPermission.LEADER), member("member", TeamPermission.USER));
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> memberUpdates = executorService.submit(() -> {
+                for(int i = 0; i < 50; i++) projectHistoryService.changeMembers(1L, members);
+            });
+            Future<?> stateUpdates = executorService.submit(() -> {
+                for(int i = 0; i < 50; i++) projectHistoryService.changeState(1L, i % 2 == 0 ? ProjectState.STARTED : ProjectState.POSTED);
+            });
+            memberUpdates.get();
+            stateUpdates.get();
+        } finally {
+            executorService.shutdown();
+        }
+
+        ProjectHistory projectHistory = projectHistoryService.findProject(1L);
+        assertThat(projectHistory.getProjectInfo().getProjectState()).isEqualTo(ProjectState.POSTED);
+        assertThat(projectHistory.getMembers()).extracting(Member::getUsername).containsExactly("leader", "member");
+    }
+
+    @Test
+    void 생성시_리더를_멤버로_등록한다() {
+        projectHistoryService.createProject(1L, "leader", new ProjectDetail("subject", "content", true));
+
+        ProjectHistory projectHistory = projectHistoryService.findProject(1L);
+        assertThat(projectHistory.getProjectInfo().getProjectState()).isEqualTo(ProjectState.POST_PENDING);
+        assertThat(projectHistory.getMembers()).extracting(Member::getUsername).containsExactly("leader");
+    }
+
+    @Test
+    void 내_프로젝트는_공개된_프로젝트만_조회한다() {
+        projectHistoryService.createProject(1L, "leader", new ProjectDetail("public", "content", true));
+        projectHistoryService.createProject(2L, "leader", new ProjectDetail("private", "content", false));
+
+        assertThat(projectHistoryService.findMyProjects("leader", PageRequest.of(0, 10))).extracting(ProjectHistory::getId).containsExactly(1L);
+
+        projectHistoryService.reviseProject(1L, new ProjectDetail("public", "content", false));
+
+        assertThat(projectHistoryService.findMyProjects("leader", PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void 탈퇴한_멤버는_내_프로젝트에서_빠진다() {
+        projectHistoryService.createProject(1L, "leader", new ProjectDetail("subject", "content", true));
+        projectHistoryService.changeMembers(1L, Arrays.asList(member("leader", TeamPermission.LEADER), member("member", TeamPermission.USER)));
+        projectHistoryService.changeMembers(1L, Arrays.asList(member("leader", TeamPermission.LEADER), member("member", TeamPermission.USER, TeamMemberState.REJECTED)));
+
+        assertThat(projectHistoryService.findMyProjects("member", PageRequest.of(0, 10))).isEmpty();
+        assertThat(projectHistoryService.findMyProjects("leader", PageRequest.of(0, 10))).extracting(ProjectHistory::getId).containsExactly(1L);
+    }
+
+    private TeamMemberDetail member(String username, TeamPermission teamPermission) {
+        return member(username, teamPermission, TeamMemberState.JOINED);
+    }
+
+    private TeamMemberDetail member(String username, TeamPermission teamPermission, TeamMemberState teamMemberState) {
+        TeamMemberDetail teamMemberDetail = new TeamMemberDetail(username, teamPermission);
+        teamMemberDetail.setTeamMemberState(teamMemberState);
+        return teamMemberDetail;
+    }
+}
@@ -1,7 +1,15 @@
 package com.yunseong.project;
 
 import com.yunseong.board.config.OAuth2Configuration;
+import com.yunseong.common.CommonConfiguration;
+import com.yunseong.common.lane.LaneConfiguration;
+import com.yunseong.common.storage.StorageConfiguration;
+import com.yunseong.project.config.ProjectBatchConfiguration;
+import com.yunseong.project.config.ProjectCacheConfiguration;
+import com.yunseong.project.config.ProjectRankingConfiguration;
+import com.yunseong.project.config.ProjectSearchConfiguration;
 import com.yunseong.project.config.ProjectServiceConfiguration;
+import com.yunseong.project.config.SchedulerLeaseConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
@@ -13,8 +21,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableScheduling
 @EnableJpaAuditing
 @SpringBootApplication(exclude = UserDetailsServiceAutoConfiguration.class)
-@Import({ProjectServiceConfiguration.class})
-@EnableConfigurationProperties(value = { OAuth2Configuration.class })
+@Import({ProjectServiceConfiguration.class, CommonConfiguration.class, StorageConfiguration.class, LaneConfiguration.class})
+@EnableConfigurationProperties(value = { OAuth2Configuration.class, ProjectRankingConfiguration.class, ProjectBatchConfiguration.class, ProjectSearchConfiguration.class, SchedulerLeaseConfiguration.class, ProjectCacheConfiguration.class })
 public class ProjectApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,18 @@
+package com.yunseong.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "batch")
+public class ProjectBatchConfiguration {
+
+    private int chunkSize = 100;
+    private int reconcileChunkSize = 1000;
+    private int concurrency = 4;
+    private int horizonDays = 1;
+    private int refreshPageSize = 1000;
+    private Duration spread = Duration.ofHours(24);
+}
@@ -0,0 +1,14 @@
+package com.yunseong.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "cache.project-summary")
+public class ProjectCacheConfiguration {
+
+    private long maximumSize = 10000;
+    private Duration expireAfterWrite = Duration.ofSeconds(30);
+}
@@ -0,0 +1,14 @@
+package com.yunseong.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "ranking")
+public class ProjectRankingConfiguration {
+
+    private List<Integer> windows = new ArrayList<>(List.of(1, 7, 30));
+}
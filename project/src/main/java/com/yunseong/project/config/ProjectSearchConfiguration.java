@@ -0,0 +1,11 @@
+package com.yunseong.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "search")
+public class ProjectSearchConfiguration {
+
+    private long countLimit = 1000;
+}
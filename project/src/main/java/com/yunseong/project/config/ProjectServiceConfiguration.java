@@ -27,6 +27,7 @@ import io.eventuate.tram.sagas.spring.orchestration.SagaOrchestratorConfiguratio
 import io.eventuate.tram.spring.commands.producer.TramCommandProducerConfiguration;
 import io.eventuate.tram.spring.events.publisher.TramEventsPublisherConfiguration;
 import io.eventuate.tram.spring.jdbckafka.TramJdbcKafkaConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -71,8 +72,8 @@ public class ProjectServiceConfiguration {
     }
 
     @Bean
-    public BatchProjectSaga batchProjectSaga() {
-        return new BatchProjectSaga();
+    public BatchProjectSaga batchProjectSaga(ApplicationEventPublisher applicationEventPublisher) {
+        return new BatchProjectSaga(applicationEventPublisher);
     }
 
     @Bean
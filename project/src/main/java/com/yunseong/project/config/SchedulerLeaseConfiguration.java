@@ -0,0 +1,13 @@
+package com.yunseong.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "leader")
+public class SchedulerLeaseConfiguration {
+
+    private String leaseName = "project-scheduler";
+    private long leaseTtl = 15000;
+    private long renewInterval = 5000;
+}
@@ -2,14 +2,16 @@ package com.yunseong.project.controller;
 
 import com.yunseong.project.api.event.ProjectEvent;
 import com.yunseong.project.domain.Project;
-import com.yunseong.project.domain.ProjectRecommendStatistics;
 import com.yunseong.project.domain.ProjectRevision;
 import com.yunseong.project.service.ProjectService;
 import io.eventuate.tram.events.aggregates.ResultWithDomainEvents;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -17,10 +19,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping(value = "/projects", consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -37,25 +40,40 @@ public class ProjectController {
     }
 
     @GetMapping(value = "/search")
-    public ResponseEntity<PagedModel<ProjectSearchResponse>> searchProject(@ModelAttribute ProjectSearchCondition projectSearchCondition, @PageableDefault Pageable pageable) {
-        Page<ProjectSearchResponse> page = this.projectService.findBySearch(projectSearchCondition, pageable).map(p -> new ProjectSearchResponse(p.getId(), p.getBoard().getSubject(),
-                p.getBoard().getBoardCategory(), p.getProjectState(), p.getBoard().getRecommendStatistics().stream().mapToLong(ProjectRecommendStatistics::getValue).sum(), p.isPublic(), p.getCreatedDate()));
+    public ResponseEntity<PagedModel<ProjectSearchResponse>> searchProject(@ModelAttribute ProjectSearchCondition projectSearchCondition, @RequestParam(required = false) Long after,
+                                                                           @RequestParam(required = false) SearchCountMode count, @PageableDefault Pageable pageable) {
+        if(after != null || count != null) {
+            return ResponseEntity.ok(this.searchProjectAfter(projectSearchCondition, after, count != null ? count : SearchCountMode.EXACT, pageable.getPageSize()));
+        }
+        Page<ProjectSearchResponse> page = this.projectService.findBySearch(projectSearchCondition, pageable);
         PagedModel.PageMetadata pageMetadata = new PagedModel.PageMetadata(page.getSize(), page.getNumber(), page.getTotalElements(), page.getTotalPages());
         PagedModel<ProjectSearchResponse> model = PagedModel.of(page.getContent(), pageMetadata);
         return ResponseEntity.ok(model);
     }
 
+    private PagedModel<ProjectSearchResponse> searchProjectAfter(ProjectSearchCondition projectSearchCondition, Long after, SearchCountMode count, int size) {
+        Slice<ProjectSearchResponse> slice = this.projectService.findBySearchAfter(projectSearchCondition, after, size);
+        PagedModel.PageMetadata pageMetadata = null;
+        if(count != SearchCountMode.NONE) {
+            pageMetadata = new SearchPageMetadata(size, this.projectService.countBySearch(projectSearchCondition, count));
+        }
+        List<Link> links = new ArrayList<>();
+        if(slice.hasNext()) {
+            long next = slice.getContent().get(slice.getNumberOfElements() - 1).getId();
+            links.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("after", next).replaceQueryParam("page").toUriString(), IanaLinkRelations.NEXT));
+        }
+        return PagedModel.of(slice.getContent(), pageMetadata, links);
+    }
+
     @GetMapping(value = "/best")
     public ResponseEntity<List<HotProjectSearchResponse>> searchHotProject(@ModelAttribute HotProjectSearchCondition projectSearchCondition) {
-        return ResponseEntity.ok(this.projectService.findHotProjects(projectSearchCondition).stream().map(p -> new HotProjectSearchResponse(p.getId(), p.getBoard().getSubject(),
-                p.getBoard().getBoardCategory(), p.getProjectState(), p.getBoard().getRecommendStatistics().stream().mapToLong(ProjectRecommendStatistics::getValue).sum())).collect(Collectors.toList()));
+        return ResponseEntity.ok(this.projectService.findHotProjects(projectSearchCondition));
     }
 
     @GetMapping(value = "/me")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<PagedModel<ProjectSearchResponse>> searchProject(Principal principal, @PageableDefault Pageable pageable) {
-        Page<ProjectSearchResponse> page = this.projectService.findMyProjects(principal.getName(), pageable).map(p -> new ProjectSearchResponse(p.getId(), p.getBoard().getSubject(),
-                p.getBoard().getBoardCategory(), p.getProjectState(), p.getBoard().getRecommendStatistics().stream().mapToLong(ProjectRecommendStatistics::getValue).sum(), p.isPublic(), p.getCreatedDate()));
+        Page<ProjectSearchResponse> page = this.projectService.findMyProjects(principal.getName(), pageable);
         PagedModel.PageMetadata pageMetadata = new PagedModel.PageMetadata(page.getSize(), page.getNumber(), page.getTotalElements(), page.getTotalPages());
         PagedModel<ProjectSearchResponse> model = PagedModel.of(page.getContent(), pageMetadata);
         return ResponseEntity.ok(model);
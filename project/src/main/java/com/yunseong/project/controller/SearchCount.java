@@ -0,0 +1,12 @@
+package com.yunseong.project.controller;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchCount {
+
+    private final long total;
+    private final boolean capped;
+}
@@ -0,0 +1,5 @@
+package com.yunseong.project.controller;
+
+public enum SearchCountMode {
+    EXACT, ESTIMATED, NONE
+}
@@ -0,0 +1,19 @@
+package com.yunseong.project.controller;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.hateoas.PagedModel;
+
+public class SearchPageMetadata extends PagedModel.PageMetadata {
+
+    @JsonProperty
+    private final boolean totalCapped;
+
+    public SearchPageMetadata(long size, SearchCount count) {
+        super(size, 0, count.getTotal(), (count.getTotal() + size - 1) / size);
+        this.totalCapped = count.isCapped();
+    }
+
+    public boolean isTotalCapped() {
+        return this.totalCapped;
+    }
+}
@@ -0,0 +1,92 @@
+package com.yunseong.project.deadline;
+
+import com.yunseong.common.DayBucket;
+import com.yunseong.project.config.ProjectBatchConfiguration;
+import com.yunseong.project.domain.ProjectDeadline;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Component
+public class ProjectDeadlineQueue {
+
+    private final NavigableSet<Deadline> queue = new ConcurrentSkipListSet<>();
+    private final Map<Long, Deadline> deadlines = new ConcurrentHashMap<>();
+    private final DayBucket dayBucket;
+    private final long spread;
+    private volatile long cursorDay = Long.MIN_VALUE;
+    private volatile ProjectDeadline cursor;
+
+    public ProjectDeadlineQueue(DayBucket dayBucket, ProjectBatchConfiguration projectBatchConfiguration) {
+        this.dayBucket = dayBucket;
+        this.spread = Math.max(1, projectBatchConfiguration.getSpread().toMillis());
+    }
+
+    public void schedule(long projectId, Date lastDate) {
+        if(lastDate == null) return;
+        Deadline deadline = new Deadline(projectId, dueTime(projectId, lastDate));
+        this.deadlines.compute(projectId, (id, before) -> {
+            if(before != null) this.queue.remove(before);
+            this.queue.add(deadline);
+            return deadline;
+        });
+    }
+
+    public List<Long> pollDue(int max) {
+        long now = this.dayBucket.getClock().millis();
+        List<Long> due = new ArrayList<>();
+        while(due.size() < max) {
+            Deadline head = this.queue.isEmpty() ? null : this.queue.first();
+            if(head == null || head.dueTime > now) break;
+            if(this.queue.remove(head)) {
+                this.deadlines.remove(head.projectId, head);
+                due.add(head.projectId);
+            }
+        }
+        return due;
+    }
+
+    public ProjectDeadline cursor(long today) {
+        if(this.cursorDay != today) {
+            this.cursorDay = today;
+            this.cursor = null;
+        }
+        return this.cursor;
+    }
+
+    public void advance(ProjectDeadline cursor) {
+        this.cursor = cursor;
+    }
+
+    public void resetCursor() {
+        this.cursorDay = Long.MIN_VALUE;
+        this.cursor = null;
+    }
+
+    public int size() {
+        return this.deadlines.size();
+    }
+
+    private long dueTime(long projectId, Date lastDate) {
+        return this.dayBucket.startOf(this.dayBucket.epochDay(lastDate) + 1).getTime() + Math.floorMod(projectId * 0x9E3779B97F4A7C15L, this.spread);
+    }
+
+    private static class Deadline implements Comparable<Deadline> {
+
+        private final long projectId;
+        private final long dueTime;
+
+        private Deadline(long projectId, long dueTime) {
+            this.projectId = projectId;
+            this.dueTime = dueTime;
+        }
+
+        @Override
+        public int compareTo(Deadline o) {
+            int compare = Long.compare(this.dueTime, o.dueTime);
+            return compare != 0 ? compare : Long.compare(this.projectId, o.projectId);
+        }
+    }
+}
@@ -63,8 +63,8 @@ public class Project {
         this.lastDate = lastDate;
     }
 
-    public static ResultWithDomainEvents<Project, ProjectEvent> create(boolean isPublic, Date lastDate) {
-        return new ResultWithDomainEvents<>(new Project(isPublic, lastDate), new ProjectCreatedEvent());
+    public static ResultWithDomainEvents<Project, ProjectEvent> create(boolean isPublic, Date lastDate, String username, ProjectDetail projectDetail) {
+        return new ResultWithDomainEvents<>(new Project(isPublic, lastDate), new ProjectCreatedEvent(username, projectDetail));
     }
 
     public void addMember(String username) {
@@ -89,7 +89,7 @@ public class Project {
             this.isPublic = projectRevision.isOpen();
             this.board.changeSubject(projectRevision.getSubject());
             this.projectState = ProjectState.POSTED;
-            return Collections.emptyList();
+            return Collections.singletonList(new ProjectRevisedEvent(this.id, new ProjectDetail(projectRevision.getSubject(), projectRevision.getContent(), projectRevision.isOpen())));
         }
         throw new UnsupportedStateTransitionException(this.projectState);
     }
@@ -106,7 +106,7 @@ public class Project {
         switch (this.projectState) {
             case CANCEL_PENDING: case POST_PENDING: case REVISION_PENDING:
                 this.projectState = ProjectState.POSTED;
-                return Collections.emptyList();
+                return Collections.singletonList(new ProjectPostedEvent(this.id));
             default:
                 throw new UnsupportedStateTransitionException(this.projectState);
         }
@@ -0,0 +1,25 @@
+package com.yunseong.project.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import java.util.Date;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProjectBatchCheckpoint {
+
+    @Id
+    @Temporal(TemporalType.DATE)
+    private Date batchDate;
+
+    public ProjectBatchCheckpoint(Date batchDate) {
+        this.batchDate = batchDate;
+    }
+}
@@ -0,0 +1,18 @@
+package com.yunseong.project.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Date;
+import java.util.Optional;
+
+@Repository
+public interface ProjectBatchCheckpointRepository extends JpaRepository<ProjectBatchCheckpoint, Date> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ProjectBatchCheckpoint c where c.batchDate = :batchDate")
+    Optional<ProjectBatchCheckpoint> findForUpdate(Date batchDate);
+}
@@ -0,0 +1,12 @@
+package com.yunseong.project.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectBatchTarget {
+
+    private final long projectId;
+    private final long boardId;
+}
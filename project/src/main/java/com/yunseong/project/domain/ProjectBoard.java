@@ -36,17 +36,21 @@ public class ProjectBoard {
     @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, mappedBy = "projectBoard")
     private List<ProjectRecommendStatistics> recommendStatistics = new ArrayList<>();
 
+    private long recommendTotal;
+
     public void changeSubject(String subject) {
         this.subject = subject;
     }
 
-    public void addRecommend(Date now, long value) {
+    public long addRecommend(Date now, long value) {
         for(ProjectRecommendStatistics recommendStatistics : this.recommendStatistics) {
             if(recommendStatistics.getRecommendDate().compareTo(now)==0) {
+                long delta = value - recommendStatistics.getValue();
                 recommendStatistics.setValue(value);
-                return;
+                return delta;
             }
         }
         this.recommendStatistics.add(new ProjectRecommendStatistics(now, value, this));
+        return value;
     }
 }
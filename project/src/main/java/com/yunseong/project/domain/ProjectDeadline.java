@@ -0,0 +1,14 @@
+package com.yunseong.project.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class ProjectDeadline {
+
+    private final long projectId;
+    private final Date lastDate;
+}
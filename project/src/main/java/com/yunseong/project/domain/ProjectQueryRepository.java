@@ -1,16 +1,29 @@
 package com.yunseong.project.domain;
 
-import com.yunseong.project.controller.HotProjectSearchCondition;
+import com.yunseong.board.api.BoardCategory;
+import com.yunseong.common.ranking.RankedItem;
 import com.yunseong.project.controller.ProjectSearchCondition;
+import com.yunseong.project.controller.ProjectSearchResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.time.LocalDate;
+import java.util.Date;
 import java.util.List;
 
 public interface ProjectQueryRepository {
 
-    Page<Project> findBySearch(ProjectSearchCondition projectSearchCondition, Pageable pageable);
+    Page<ProjectSearchResponse> findBySearch(ProjectSearchCondition projectSearchCondition, Pageable pageable);
 
-    List<Project> findHotProjects(HotProjectSearchCondition condition);
+    Slice<ProjectSearchResponse> findBySearchAfter(ProjectSearchCondition projectSearchCondition, Long after, int size);
+
+    Page<ProjectSearchResponse> findMyProjects(String username, Pageable pageable);
+
+    long countBySearch(ProjectSearchCondition projectSearchCondition);
+
+    long countBySearch(ProjectSearchCondition projectSearchCondition, long limit);
+
+    List<ProjectRecommendSnapshot> findRecommendSnapshots(Date since);
+
+    List<RankedItem> findHotProjects(BoardCategory boardCategory, Date minDate, Date maxDate, int size);
 }
@@ -0,0 +1,17 @@
+package com.yunseong.project.domain;
+
+import com.yunseong.board.api.BoardCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class ProjectRecommendSnapshot {
+
+    private final long projectId;
+    private final BoardCategory boardCategory;
+    private final Date recommendDate;
+    private final long value;
+}
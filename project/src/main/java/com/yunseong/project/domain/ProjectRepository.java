@@ -1,6 +1,5 @@
 package com.yunseong.project.domain;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -17,17 +16,26 @@ public interface ProjectRepository extends JpaRepository<Project, Long>, Project
     @Query("select distinct p from Project p inner join fetch p.board b left join fetch b.recommendStatistics brs where p.board.id = :id")
     Optional<Project> findByBoardId(long id);
 
-    @Query("select p from Project p where p.projectState = 'POSTED' and p.lastDate < :localDate")
-    List<Project> findTargetBatch(Date localDate);
+    @Query("select p from Project p left join fetch p.board where p.id = :id")
+    Optional<Project> findWithBoardById(long id);
 
-    @Query(value = "select distinct p from Project p inner join fetch p.members pm inner join fetch p.board pb left join fetch pb.recommendStatistics pbr where pm in(:username)",
-        countQuery = "select count(p) from Project p inner join p.members pm where pm in(:username)")
-    Page<Project> findMyProjects(String username, Pageable pageable);
+    @Query("select p from Project p inner join fetch p.board where p.id in(:ids)")
+    List<Project> findWithBoardByIdIn(List<Long> ids);
+
+    @Query("select new com.yunseong.project.domain.ProjectBatchTarget(p.id, p.boardId) from Project p where p.id in(:ids) and p.projectState = 'POSTED' and p.lastDate < :localDate order by p.id")
+    List<ProjectBatchTarget> findBatchTargets(List<Long> ids, Date localDate);
+
+    @Query("select new com.yunseong.project.domain.ProjectDeadline(p.id, p.lastDate) from Project p where p.projectState = 'POSTED' and p.lastDate < :until " +
+            "and (p.lastDate > :afterDate or (p.lastDate = :afterDate and p.id > :afterId)) order by p.lastDate, p.id")
+    List<ProjectDeadline> findDeadlines(Date until, Date afterDate, long afterId, Pageable pageable);
 
     @Modifying
     @Query("update Project p set p.projectState = 'BATCH_PENDING' where p.id in(:ids)")
     void batchPendingUpdate(List<Long> ids);
 
+    @Query("select count(p) from Project p where p.projectState = 'BATCH_PENDING'")
+    long countBatchPending();
+
     @Modifying
     @Query("update Project p set p.projectState = 'POSTED' where p.id in(:ids)")
     void batchUndoUpdate(List<Long> ids);
@@ -35,4 +43,15 @@ public interface ProjectRepository extends JpaRepository<Project, Long>, Project
     @Modifying
     @Query("update Project p set p.projectState = 'CANCELLED' where p.id in(:ids)")
     void batchUpdate(List<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProjectBoard b set b.recommendTotal = b.recommendTotal + :delta where b.id = :id")
+    void addRecommendTotal(long id, long delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProjectBoard b set b.recommendTotal = (select coalesce(sum(s.value), 0) from ProjectRecommendStatistics s where s.projectBoard = b) where b.id between :fromId and :toId")
+    int reconcileRecommendTotal(long fromId, long toId);
+
+    @Query("select coalesce(max(b.id), 0) from ProjectBoard b")
+    long findMaxProjectBoardId();
 }
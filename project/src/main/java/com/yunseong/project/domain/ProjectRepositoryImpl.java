@@ -1,23 +1,33 @@
 package com.yunseong.project.domain;
 
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.yunseong.board.api.BoardCategory;
+import com.yunseong.common.ranking.RankedItem;
 import com.yunseong.project.api.event.ProjectState;
-import com.yunseong.project.controller.HotProjectSearchCondition;
 import com.yunseong.project.controller.ProjectSearchCondition;
+import com.yunseong.project.controller.ProjectSearchResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import javax.persistence.EntityManager;
 
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.yunseong.project.domain.QProject.project;
 import static com.yunseong.project.domain.QProjectBoard.projectBoard;
@@ -33,44 +43,139 @@ public class ProjectRepositoryImpl implements ProjectQueryRepository {
     }
 
     @Override
-    public Page<Project> findBySearch(ProjectSearchCondition projectSearchCondition, Pageable pageable) {
+    public Page<ProjectSearchResponse> findBySearch(ProjectSearchCondition projectSearchCondition, Pageable pageable) {
         StringPath usernames = Expressions.stringPath("usernames");
-        JPAQuery<Project> from = this.jpaQueryFactory
-                .select(project)
+        List<Long> ids = this.jpaQueryFactory
+                .select(project.id).distinct()
                 .from(project)
-                .innerJoin(project.members, usernames).fetchJoin()
-                .innerJoin(project.board, projectBoard).fetchJoin()
-                .leftJoin(projectBoard.recommendStatistics, projectRecommendStatistics).fetchJoin();
-        JPAQuery<Long> count = this.jpaQueryFactory.select(project.count())
+                .innerJoin(project.members, usernames)
+                .innerJoin(project.board, projectBoard)
+                .where(searchPredicates(projectSearchCondition, usernames))
+                .orderBy(project.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+        JPAQuery<Long> count = this.jpaQueryFactory.select(project.countDistinct())
                 .from(project)
                 .innerJoin(project.members, usernames)
-                .innerJoin(project.board, projectBoard);
-        if(projectSearchCondition.getProjectState() != ProjectState.POSTED) {
-            from.where(project.isPublic.isTrue(), inUsername(projectSearchCondition, usernames), eqProjectState(projectSearchCondition), containsSubject(projectSearchCondition.getSubject()), equalsTheme(projectSearchCondition.getBoardCategory()));
-            count.where(project.isPublic.isTrue(), inUsername(projectSearchCondition, usernames), eqProjectState(projectSearchCondition), containsSubject(projectSearchCondition.getSubject()), equalsTheme(projectSearchCondition.getBoardCategory()));
-        }else {
-            from.where(eqProjectState(projectSearchCondition), inUsername(projectSearchCondition, usernames), containsSubject(projectSearchCondition.getSubject()), equalsTheme(projectSearchCondition.getBoardCategory()));
-            count.where(eqProjectState(projectSearchCondition), inUsername(projectSearchCondition, usernames), containsSubject(projectSearchCondition.getSubject()), equalsTheme(projectSearchCondition.getBoardCategory()));
+                .innerJoin(project.board, projectBoard)
+                .where(searchPredicates(projectSearchCondition, usernames));
+        return PageableExecutionUtils.getPage(findSearchResponses(ids), pageable, count::fetchOne);
+    }
+
+    @Override
+    public Slice<ProjectSearchResponse> findBySearchAfter(ProjectSearchCondition projectSearchCondition, Long after, int size) {
+        StringPath usernames = Expressions.stringPath("usernames");
+        List<Long> ids = this.jpaQueryFactory
+                .select(project.id).distinct()
+                .from(project)
+                .innerJoin(project.members, usernames)
+                .innerJoin(project.board, projectBoard)
+                .where(searchPredicates(projectSearchCondition, usernames))
+                .where(after != null ? project.id.lt(after) : null)
+                .orderBy(project.id.desc())
+                .limit(size + 1)
+                .fetch();
+        boolean hasNext = ids.size() > size;
+        if(hasNext) {
+            ids = ids.subList(0, size);
         }
-        List<Project> content = from
+        return new SliceImpl<>(findSearchResponses(ids), PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public Page<ProjectSearchResponse> findMyProjects(String username, Pageable pageable) {
+        StringPath usernames = Expressions.stringPath("usernames");
+        List<Long> ids = this.jpaQueryFactory
+                .select(project.id)
+                .from(project)
+                .innerJoin(project.members, usernames)
+                .where(usernames.eq(username))
                 .orderBy(project.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
-        return PageableExecutionUtils.getPage(content, pageable, count::fetchCount);
+        JPAQuery<Long> count = this.jpaQueryFactory.select(project.count())
+                .from(project)
+                .innerJoin(project.members, usernames)
+                .where(usernames.eq(username));
+        return PageableExecutionUtils.getPage(findSearchResponses(ids), pageable, count::fetchOne);
     }
 
     @Override
-    public List<Project> findHotProjects(HotProjectSearchCondition condition) {
+    public long countBySearch(ProjectSearchCondition projectSearchCondition) {
+        StringPath usernames = Expressions.stringPath("usernames");
         return this.jpaQueryFactory
-                .select(project).distinct()
+                .select(project.countDistinct())
                 .from(project)
-                .where(this.equalsTheme(condition.getCategory()), projectRecommendStatistics.recommendDate.between(condition.getMinDate(), condition.getMaxDate()))
-                .innerJoin(project.board, projectBoard).fetchJoin()
-                .innerJoin(projectBoard.recommendStatistics, projectRecommendStatistics).fetchJoin()
+                .innerJoin(project.members, usernames)
+                .innerJoin(project.board, projectBoard)
+                .where(searchPredicates(projectSearchCondition, usernames))
+                .fetchOne();
+    }
+
+    @Override
+    public long countBySearch(ProjectSearchCondition projectSearchCondition, long limit) {
+        StringPath usernames = Expressions.stringPath("usernames");
+        return this.jpaQueryFactory
+                .select(project.id).distinct()
+                .from(project)
+                .innerJoin(project.members, usernames)
+                .innerJoin(project.board, projectBoard)
+                .where(searchPredicates(projectSearchCondition, usernames))
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+
+    @Override
+    public List<ProjectRecommendSnapshot> findRecommendSnapshots(Date since) {
+        return this.jpaQueryFactory
+                .select(Projections.constructor(ProjectRecommendSnapshot.class, project.id, projectBoard.boardCategory, projectRecommendStatistics.recommendDate, projectRecommendStatistics.value))
+                .from(project)
+                .innerJoin(project.board, projectBoard)
+                .innerJoin(projectBoard.recommendStatistics, projectRecommendStatistics)
+                .where(projectRecommendStatistics.recommendDate.goe(since))
+                .fetch();
+    }
+
+    @Override
+    public List<RankedItem> findHotProjects(BoardCategory boardCategory, Date minDate, Date maxDate, int size) {
+        NumberExpression<Long> total = projectRecommendStatistics.value.sum();
+        return this.jpaQueryFactory
+                .select(project.id, total)
+                .from(project)
+                .innerJoin(project.board, projectBoard)
+                .innerJoin(projectBoard.recommendStatistics, projectRecommendStatistics)
+                .where(this.equalsTheme(boardCategory), projectRecommendStatistics.recommendDate.between(minDate, maxDate))
                 .groupBy(project.id)
-                .orderBy(projectRecommendStatistics.value.sum().desc())
-                .limit(condition.getSize()).fetch();
+                .orderBy(total.desc(), project.id.desc())
+                .limit(size)
+                .fetch()
+                .stream()
+                .map(t -> new RankedItem(t.get(project.id), t.get(total), t.get(total)))
+                .collect(Collectors.toList());
+    }
+
+    private List<ProjectSearchResponse> findSearchResponses(List<Long> ids) {
+        if(ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return this.jpaQueryFactory
+                .select(Projections.constructor(ProjectSearchResponse.class, project.id, projectBoard.subject, projectBoard.boardCategory, project.projectState,
+                        projectBoard.recommendTotal, project.isPublic, project.createdDate))
+                .from(project)
+                .innerJoin(project.board, projectBoard)
+                .where(project.id.in(ids))
+                .orderBy(project.id.desc())
+                .fetch();
+    }
+
+    private Predicate[] searchPredicates(ProjectSearchCondition projectSearchCondition, StringPath usernames) {
+        if(projectSearchCondition.getProjectState() != ProjectState.POSTED) {
+            return new Predicate[] { project.isPublic.isTrue(), inUsername(projectSearchCondition, usernames), eqProjectState(projectSearchCondition), containsSubject(projectSearchCondition.getSubject()), equalsTheme(projectSearchCondition.getBoardCategory()) };
+        }
+        return new Predicate[] { eqProjectState(projectSearchCondition), inUsername(projectSearchCondition, usernames), containsSubject(projectSearchCondition.getSubject()), equalsTheme(projectSearchCondition.getBoardCategory()) };
     }
 
     private BooleanExpression inUsername(ProjectSearchCondition projectSearchCondition, StringPath usernames) {
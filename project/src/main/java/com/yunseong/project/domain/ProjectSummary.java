@@ -0,0 +1,18 @@
+package com.yunseong.project.domain;
+
+import com.yunseong.board.api.BoardCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectSummary {
+
+    private final Long id;
+    private final Long boardId;
+    private final BoardCategory boardCategory;
+
+    public static ProjectSummary of(Project project) {
+        return new ProjectSummary(project.getId(), project.getBoardId(), project.getBoard() != null ? project.getBoard().getBoardCategory() : null);
+    }
+}
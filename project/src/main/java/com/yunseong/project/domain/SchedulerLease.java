@@ -0,0 +1,23 @@
+package com.yunseong.project.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SchedulerLease {
+
+    @Id
+    private String name;
+
+    private String owner;
+
+    private long acquiredAt;
+
+    private long expiresAt;
+}
@@ -0,0 +1,36 @@
+package com.yunseong.project.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select l from SchedulerLease l where l.name = :name and l.owner = :owner and l.expiresAt > :now")
+    Optional<SchedulerLease> findHeldBy(String name, String owner, long now);
+
+    @Modifying
+    @Query(value = "insert ignore into scheduler_lease(name, owner, acquired_at, expires_at) values (:name, '', 0, 0)", nativeQuery = true)
+    int createIfAbsent(String name);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update SchedulerLease l set l.expiresAt = :expiresAt where l.name = :name and l.owner = :owner")
+    int renew(String name, String owner, long expiresAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update SchedulerLease l set l.owner = :owner, l.acquiredAt = :now, l.expiresAt = :expiresAt where l.name = :name and l.owner = :previousOwner and l.expiresAt = :previousExpiresAt")
+    int takeOver(String name, String previousOwner, long previousExpiresAt, String owner, long now, long expiresAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update SchedulerLease l set l.expiresAt = 0 where l.name = :name and l.owner = :owner")
+    int release(String name, String owner);
+}
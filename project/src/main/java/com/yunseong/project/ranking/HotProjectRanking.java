@@ -0,0 +1,75 @@
+package com.yunseong.project.ranking;
+
+import com.yunseong.board.api.BoardCategory;
+import com.yunseong.common.DayBucket;
+import com.yunseong.common.ranking.CategoryRankings;
+import com.yunseong.common.ranking.DayRanking;
+import com.yunseong.common.ranking.RankedItem;
+import com.yunseong.project.config.ProjectRankingConfiguration;
+import com.yunseong.project.domain.ProjectRecommendSnapshot;
+import com.yunseong.project.domain.ProjectRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+@Component
+public class HotProjectRanking {
+
+    private final ProjectRepository projectRepository;
+    private final DayBucket dayBucket;
+    private final int retention;
+    private final CategoryRankings<BoardCategory> rankings;
+
+    public HotProjectRanking(ProjectRepository projectRepository, ProjectRankingConfiguration configuration, DayBucket dayBucket) {
+        this.projectRepository = projectRepository;
+        this.dayBucket = dayBucket;
+        List<Integer> windows = List.copyOf(configuration.getWindows());
+        this.retention = windows.stream().mapToInt(Integer::intValue).max().orElse(1);
+        this.rankings = new CategoryRankings<>(BoardCategory.class, () -> new DayRanking(this.retention, windows, dayBucket.today()));
+    }
+
+    public void record(BoardCategory category, long projectId, Date recommendDate, long value) {
+        this.rankings.record(category, projectId, this.dayBucket.epochDay(recommendDate), value, this.dayBucket.today());
+    }
+
+    public void recordAfterCommit(BoardCategory category, long projectId, Date recommendDate, long value) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.record(category, projectId, recommendDate, value);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(category, projectId, recommendDate, value);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<RankedItem> top(BoardCategory category, Date minDate, Date maxDate, int size) {
+        long today = this.dayBucket.today();
+        long min = this.dayBucket.epochDay(minDate);
+        long max = this.dayBucket.epochDay(maxDate);
+        if (size <= 0 || min > max) return Collections.emptyList();
+        if (min <= today - this.retention) return this.projectRepository.findHotProjects(category, minDate, maxDate, size);
+        return this.rankings.top(category, min, max, size, null, today);
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ranking.rebuild-interval:600000}", fixedDelayString = "${ranking.rebuild-interval:600000}")
+    public void rebuild() {
+        long today = this.dayBucket.today();
+        this.rankings.rebuild(rankings -> {
+            for (ProjectRecommendSnapshot snapshot : this.projectRepository.findRecommendSnapshots(this.dayBucket.startOf(today - this.retention + 1))) {
+                rankings.get(snapshot.getBoardCategory()).record(snapshot.getProjectId(), this.dayBucket.epochDay(snapshot.getRecommendDate()), snapshot.getValue(), today);
+            }
+        });
+    }
+}
@@ -13,6 +13,7 @@ import com.yunseong.project.sagaparticipants.BatchUndoProjectCommand;
 import io.eventuate.tram.commands.consumer.CommandWithDestination;
 import io.eventuate.tram.sagas.orchestration.SagaDefinition;
 import io.eventuate.tram.sagas.simpledsl.SimpleSaga;
+import org.springframework.context.ApplicationEventPublisher;
 
 import javax.annotation.PostConstruct;
 
@@ -20,8 +21,13 @@ import static io.eventuate.tram.commands.consumer.CommandWithDestinationBuilder.
 
 public class BatchProjectSaga implements SimpleSaga<BatchProjectSagaData> {
 
+    private final ApplicationEventPublisher applicationEventPublisher;
     private SagaDefinition<BatchProjectSagaData> sagaDataSagaDefinition;
 
+    public BatchProjectSaga(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
     @PostConstruct
     private void init() {
         this.sagaDataSagaDefinition =
@@ -44,6 +50,16 @@ public class BatchProjectSaga implements SimpleSaga<BatchProjectSagaData> {
         return this.sagaDataSagaDefinition;
     }
 
+    @Override
+    public void onSagaCompletedSuccessfully(String sagaId, BatchProjectSagaData data) {
+        this.applicationEventPublisher.publishEvent(new BatchProjectSagaFinishedEvent(data.getBatchDate()));
+    }
+
+    @Override
+    public void onSagaRolledBack(String sagaId, BatchProjectSagaData data) {
+        this.applicationEventPublisher.publishEvent(new BatchProjectSagaFinishedEvent(data.getBatchDate()));
+    }
+
     private CommandWithDestination batchPending(BatchProjectSagaData data) {
         return send(new BatchStartProjectCommand(data.getProjectIds()))
                 .to(ProjectServiceChannels.projectServiceChannel)
@@ -52,7 +68,7 @@ public class BatchProjectSaga implements SimpleSaga<BatchProjectSagaData> {
 
     private CommandWithDestination batchUndo(BatchProjectSagaData data) {
         return send(new BatchUndoProjectCommand(data.getProjectIds()))
-                .to(BoardServiceChannels.boardServiceChannel)
+                .to(ProjectServiceChannels.projectServiceChannel)
                 .build();
     }
 
@@ -64,7 +80,7 @@ public class BatchProjectSaga implements SimpleSaga<BatchProjectSagaData> {
 
     private CommandWithDestination batchUndoBoard(BatchProjectSagaData data) {
         return send(new BatchUndoBoardCommend(data.getBoardIds()))
-                .to(ProjectServiceChannels.projectServiceChannel)
+                .to(BoardServiceChannels.boardServiceChannel)
                 .build();
     }
 
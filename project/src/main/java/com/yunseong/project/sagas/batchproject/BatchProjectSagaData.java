@@ -8,6 +8,7 @@ import org.apache.commons.lang.builder.EqualsBuilder;
 import org.apache.commons.lang.builder.HashCodeBuilder;
 
 import java.time.LocalDate;
+import java.util.Date;
 import java.util.List;
 
 @Getter
@@ -15,6 +16,7 @@ import java.util.List;
 @AllArgsConstructor
 public class BatchProjectSagaData {
 
+    private Date batchDate;
     private List<Long> projectIds;
     private List<Long> boardIds;
 
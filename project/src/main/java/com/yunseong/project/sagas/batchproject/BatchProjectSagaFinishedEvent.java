@@ -0,0 +1,13 @@
+package com.yunseong.project.sagas.batchproject;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class BatchProjectSagaFinishedEvent {
+
+    private final Date batchDate;
+}
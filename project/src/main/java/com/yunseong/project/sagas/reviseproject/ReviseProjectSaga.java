@@ -50,8 +50,8 @@ public class ReviseProjectSaga implements SimpleSaga<ReviseProjectSagaData> {
     }
 
     private CommandWithDestination makeReviseBoardCommand(ReviseProjectSagaData data) {
-        return send(new ReviseBoardCommand(data.getProjectId(), new BoardDetail(data.getUsername(), data.getProjectRevision().getSubject(), data.getProjectRevision().getContent(),
-                null, data.getImages())))
+        return send(new ReviseBoardCommand(data.getBoardId(), new BoardDetail(data.getUsername(), data.getProjectRevision().getSubject(), data.getProjectRevision().getContent(),
+                null, data.getAttachments())))
                 .to(BoardServiceChannels.boardServiceChannel)
                 .build();
     }
@@ -1,5 +1,6 @@
 package com.yunseong.project.sagas.reviseproject;
 
+import com.yunseong.board.api.AttachmentDetail;
 import com.yunseong.project.domain.ProjectRevision;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -7,7 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang.builder.EqualsBuilder;
 import org.apache.commons.lang.builder.HashCodeBuilder;
-import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -18,7 +20,7 @@ public class ReviseProjectSagaData {
     private long boardId;
     private String username;
     private ProjectRevision projectRevision;
-    private MultipartFile[] images;
+    private List<AttachmentDetail> attachments;
 
     @Override
     public boolean equals(Object o) {
@@ -1,28 +1,54 @@
 package com.yunseong.project.scheduler;
 
+import com.yunseong.project.config.ProjectBatchConfiguration;
+import com.yunseong.project.service.ProjectBatchService;
 import com.yunseong.project.service.ProjectService;
 import lombok.AllArgsConstructor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.time.LocalDate;
-import java.util.Date;
+import java.time.Instant;
 
 @Component
 @AllArgsConstructor
 public class ProjectScheduler {
 
     private final ProjectService projectService;
+    private final ProjectBatchService projectBatchService;
+    private final SchedulerLeaderElection schedulerLeaderElection;
+    private final ProjectBatchConfiguration projectBatchConfiguration;
+    private final TaskScheduler taskScheduler;
 
-    @Scheduled(cron = "0 0 0 * * *")
-    public void task() {
-        try {
-            SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd");
-            this.projectService.startBatch(simpleDateFormat.parse(simpleDateFormat.format(new Date())));
-        } catch (ParseException e) {
-            e.printStackTrace();
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLeadershipAcquired(SchedulerLeadershipAcquiredEvent event) {
+        this.taskScheduler.schedule(() -> {
+            if(!this.schedulerLeaderElection.isLeader()) return;
+            this.projectBatchService.resetDeadlines();
+            this.projectBatchService.refreshDeadlines();
+        }, Instant.now());
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${batch.refresh-interval:60000}")
+    public void refreshDeadlines() {
+        if(!this.schedulerLeaderElection.isLeader()) return;
+        this.projectBatchService.refreshDeadlines();
+    }
+
+    @Scheduled(fixedDelayString = "${batch.poll-interval:5000}")
+    public void expireDueProjects() {
+        if(!this.schedulerLeaderElection.isLeader()) return;
+        this.projectBatchService.expireDueProjects();
+    }
+
+    @Scheduled(cron = "0 30 0 * * *")
+    public void reconcileRecommendTotal() {
+        if(!this.schedulerLeaderElection.isLeader()) return;
+        int chunkSize = Math.max(1, this.projectBatchConfiguration.getReconcileChunkSize());
+        long maxId = this.projectService.findMaxProjectBoardId();
+        for(long from = 1; from <= maxId; from += chunkSize) {
+            this.projectService.reconcileRecommendTotal(from, from + chunkSize - 1);
         }
     }
 }
@@ -0,0 +1,105 @@
+package com.yunseong.project.scheduler;
+
+import com.yunseong.project.config.SchedulerLeaseConfiguration;
+import com.yunseong.project.domain.SchedulerLease;
+import com.yunseong.project.domain.SchedulerLeaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class SchedulerLeaderElection {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final SchedulerLeaseConfiguration schedulerLeaseConfiguration;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskScheduler leaseScheduler = new ThreadPoolTaskScheduler();
+    private final Timer holdTimer;
+    private final Timer handoverTimer;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+    private final Clock clock = Clock.systemUTC();
+    private volatile long leaseUntil;
+    private volatile long acquiredAt;
+
+    public SchedulerLeaderElection(SchedulerLeaseRepository schedulerLeaseRepository, SchedulerLeaseConfiguration schedulerLeaseConfiguration,
+                                   ApplicationEventPublisher applicationEventPublisher, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.schedulerLeaseConfiguration = schedulerLeaseConfiguration;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.holdTimer = meterRegistry.timer("project.scheduler.lease.hold");
+        this.handoverTimer = meterRegistry.timer("project.scheduler.lease.handover");
+        meterRegistry.gauge("project.scheduler.leader", this, e -> e.isLeader() ? 1 : 0);
+        meterRegistry.more().timeGauge("project.scheduler.lease.held", Tags.empty(), this, TimeUnit.MILLISECONDS, e -> e.isLeader() ? e.clock.millis() - e.acquiredAt : 0);
+    }
+
+    public boolean isLeader() {
+        return this.clock.millis() < this.leaseUntil;
+    }
+
+    public boolean holdsLease() {
+        return this.isLeader() && this.schedulerLeaseRepository.findHeldBy(this.schedulerLeaseConfiguration.getLeaseName(), this.owner, this.clock.millis()).isPresent();
+    }
+
+    @PostConstruct
+    public void start() {
+        this.leaseScheduler.setPoolSize(1);
+        this.leaseScheduler.setThreadNamePrefix("scheduler-lease-");
+        this.leaseScheduler.initialize();
+        this.leaseScheduler.scheduleWithFixedDelay(() -> this.transactionTemplate.executeWithoutResult(status -> this.heartbeat()), this.schedulerLeaseConfiguration.getRenewInterval());
+    }
+
+    private void heartbeat() {
+        long now = this.clock.millis();
+        long expiresAt = now + this.schedulerLeaseConfiguration.getLeaseTtl();
+        this.schedulerLeaseRepository.createIfAbsent(this.schedulerLeaseConfiguration.getLeaseName());
+        SchedulerLease lease = this.schedulerLeaseRepository.findById(this.schedulerLeaseConfiguration.getLeaseName()).orElseThrow();
+        if(lease.getOwner().equals(this.owner) && this.schedulerLeaseRepository.renew(lease.getName(), this.owner, expiresAt) == 1) {
+            if(!this.isLeader()) {
+                this.lost(now);
+                this.acquired(now, 0);
+            }
+            this.leaseUntil = expiresAt;
+            return;
+        }
+        this.lost(now);
+        if(lease.getExpiresAt() < now && this.schedulerLeaseRepository.takeOver(lease.getName(), lease.getOwner(), lease.getExpiresAt(), this.owner, now, expiresAt) == 1) {
+            this.leaseUntil = expiresAt;
+            this.acquired(now, lease.getExpiresAt() > 0 ? now - lease.getExpiresAt() : 0);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        this.leaseScheduler.shutdown();
+        if(this.isLeader()) {
+            this.lost(this.clock.millis());
+            this.schedulerLeaseRepository.release(this.schedulerLeaseConfiguration.getLeaseName(), this.owner);
+        }
+    }
+
+    private void acquired(long now, long handover) {
+        this.acquiredAt = now;
+        this.handoverTimer.record(handover, TimeUnit.MILLISECONDS);
+        this.applicationEventPublisher.publishEvent(new SchedulerLeadershipAcquiredEvent(this.owner));
+    }
+
+    private void lost(long now) {
+        if(this.leaseUntil == 0) return;
+        this.holdTimer.record(now - this.acquiredAt, TimeUnit.MILLISECONDS);
+        this.leaseUntil = 0;
+    }
+}
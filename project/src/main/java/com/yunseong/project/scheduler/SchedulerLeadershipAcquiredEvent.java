@@ -0,0 +1,11 @@
+package com.yunseong.project.scheduler;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SchedulerLeadershipAcquiredEvent {
+
+    private final String owner;
+}
@@ -0,0 +1,93 @@
+package com.yunseong.project.service;
+
+import com.yunseong.common.DayBucket;
+import com.yunseong.project.config.ProjectBatchConfiguration;
+import com.yunseong.project.deadline.ProjectDeadlineQueue;
+import com.yunseong.project.domain.ProjectBatchCheckpoint;
+import com.yunseong.project.domain.ProjectBatchCheckpointRepository;
+import com.yunseong.project.domain.ProjectBatchTarget;
+import com.yunseong.project.domain.ProjectDeadline;
+import com.yunseong.project.domain.ProjectRepository;
+import com.yunseong.project.sagas.batchproject.BatchProjectSagaData;
+import com.yunseong.project.sagas.batchproject.BatchProjectSagaFinishedEvent;
+import com.yunseong.project.scheduler.SchedulerLeaderElection;
+import io.eventuate.tram.sagas.orchestration.SagaManager;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@AllArgsConstructor
+public class ProjectBatchService {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectBatchCheckpointRepository projectBatchCheckpointRepository;
+    private final SagaManager<BatchProjectSagaData> batchProjectSagaDataSagaManager;
+    private final ProjectBatchConfiguration projectBatchConfiguration;
+    private final ProjectDeadlineQueue projectDeadlineQueue;
+    private final DayBucket dayBucket;
+    private final SchedulerLeaderElection schedulerLeaderElection;
+
+    @Transactional(readOnly = true)
+    public void refreshDeadlines() {
+        long today = this.dayBucket.today();
+        Date until = this.dayBucket.startOf(today + this.projectBatchConfiguration.getHorizonDays());
+        int pageSize = Math.max(1, this.projectBatchConfiguration.getRefreshPageSize());
+        ProjectDeadline cursor = this.projectDeadlineQueue.cursor(today);
+        while(true) {
+            List<ProjectDeadline> deadlines = this.projectRepository.findDeadlines(until, cursor == null ? new Date(0) : cursor.getLastDate(),
+                    cursor == null ? Long.MIN_VALUE : cursor.getProjectId(), PageRequest.of(0, pageSize));
+            deadlines.forEach(d -> this.projectDeadlineQueue.schedule(d.getProjectId(), d.getLastDate()));
+            if(deadlines.isEmpty()) return;
+            cursor = deadlines.get(deadlines.size() - 1);
+            this.projectDeadlineQueue.advance(cursor);
+            if(deadlines.size() < pageSize) return;
+        }
+    }
+
+    public void resetDeadlines() {
+        this.projectDeadlineQueue.resetCursor();
+    }
+
+    public void expireDueProjects() {
+        Date batchDate = this.dayBucket.startOfToday();
+        if(!this.projectBatchCheckpointRepository.existsById(batchDate)) {
+            this.projectBatchCheckpointRepository.saveAndFlush(new ProjectBatchCheckpoint(batchDate));
+        }
+        this.projectBatchCheckpointRepository.findForUpdate(batchDate).ifPresent(this::launch);
+    }
+
+    @EventListener
+    public void onChunkFinished(BatchProjectSagaFinishedEvent event) {
+        this.projectBatchCheckpointRepository.findForUpdate(event.getBatchDate()).ifPresent(this::launch);
+    }
+
+    private void launch(ProjectBatchCheckpoint checkpoint) {
+        long inFlight = this.projectRepository.countBatchPending();
+        while(inFlight < (long) this.projectBatchConfiguration.getConcurrency() * this.projectBatchConfiguration.getChunkSize()) {
+            if(!this.schedulerLeaderElection.holdsLease()) {
+                return;
+            }
+            List<Long> due = this.projectDeadlineQueue.pollDue(this.projectBatchConfiguration.getChunkSize());
+            if(due.isEmpty()) {
+                return;
+            }
+            List<ProjectBatchTarget> targets = this.projectRepository.findBatchTargets(due, checkpoint.getBatchDate());
+            if(targets.isEmpty()) {
+                continue;
+            }
+            List<Long> projectIds = targets.stream().map(ProjectBatchTarget::getProjectId).collect(Collectors.toList());
+            this.projectRepository.batchPendingUpdate(projectIds);
+            this.batchProjectSagaDataSagaManager.create(new BatchProjectSagaData(checkpoint.getBatchDate(), projectIds,
+                    targets.stream().map(ProjectBatchTarget::getBoardId).collect(Collectors.toList())));
+            inFlight += projectIds.size();
+        }
+    }
+}
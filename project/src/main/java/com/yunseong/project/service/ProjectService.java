@@ -1,16 +1,26 @@
 package com.yunseong.project.service;
 
+import com.yunseong.board.api.AttachmentDetail;
 import com.yunseong.board.api.BoardCategory;
 import com.yunseong.board.api.BoardDetail;
 import com.yunseong.common.CannotReviseBoardIfWriterNotWereException;
 import com.yunseong.common.UnsupportedStateTransitionException;
+import com.yunseong.common.ranking.RankedItem;
+import com.yunseong.common.storage.BlobStore;
+import com.yunseong.common.storage.StagedBlob;
 import com.yunseong.project.controller.CreateProjectRequest;
+import com.yunseong.project.api.event.ProjectDetail;
 import com.yunseong.project.api.event.ProjectEvent;
 import com.yunseong.project.api.event.ProjectState;
 import com.yunseong.project.controller.HotProjectSearchCondition;
+import com.yunseong.project.controller.HotProjectSearchResponse;
 import com.yunseong.project.controller.ProjectSearchCondition;
+import com.yunseong.project.controller.ProjectSearchResponse;
+import com.yunseong.project.controller.SearchCount;
+import com.yunseong.project.controller.SearchCountMode;
+import com.yunseong.project.config.ProjectSearchConfiguration;
 import com.yunseong.project.domain.*;
-import com.yunseong.project.sagas.batchproject.BatchProjectSagaData;
+import com.yunseong.project.ranking.HotProjectRanking;
 import com.yunseong.project.sagas.cancelproject.CancelProjectSagaData;
 import com.yunseong.project.sagas.createproject.CreateProjectSagaState;
 import com.yunseong.project.sagas.reviseproject.ReviseProjectSagaData;
@@ -20,13 +30,17 @@ import io.eventuate.tram.sagas.orchestration.SagaManager;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -41,15 +55,18 @@ public class ProjectService {
     private final SagaManager<StartProjectSagaData> startProjectSagaStateSagaManager;
     private final SagaManager<CancelProjectSagaData> cancelProjectSagaDataSagaManager;
     private final SagaManager<ReviseProjectSagaData> reviseProjectSagaDataSagaManager;
-    private final SagaManager<BatchProjectSagaData> batchProjectSagaDataSagaManager;
+    private final HotProjectRanking hotProjectRanking;
+    private final ProjectSearchConfiguration projectSearchConfiguration;
+    private final ProjectSummaryCache projectSummaryCache;
+    private final BlobStore blobStore;
 
     public ResultWithDomainEvents<Project, ProjectEvent> createProject(String username, CreateProjectRequest request, MultipartFile[] files) {
-        ResultWithDomainEvents<Project, ProjectEvent> rwe = Project.create(request.isOpen(), request.getLastDate());
+        ResultWithDomainEvents<Project, ProjectEvent> rwe = Project.create(request.isOpen(), request.getLastDate(), username, new ProjectDetail(request.getSubject(), request.getContent(), request.isOpen()));
         Project project = this.projectRepository.save(rwe.result);
         this.projectDomainEventPublisher.publish(rwe.result, rwe.events);
 
         this.createProjectSagaSagaManager.create(new CreateProjectSagaState(project.getId(), username, request.getMinSize(), request.getMaxSize(),
-                new BoardDetail(username, request.getSubject(), request.getContent(), request.getCategory(), files)), Project.class, project.getId());
+                new BoardDetail(username, request.getSubject(), request.getContent(), request.getCategory(), this.stageAttachments(files))), Project.class, project.getId());
 
         return rwe;
     }
@@ -67,24 +84,48 @@ public class ProjectService {
         Project project = this.getProject(projectId);
         if(project.isWriter(username)) throw new CannotReviseBoardIfWriterNotWereException("작성자가 아니면 수정할 수 없습니다");
         if(project.getProjectState() != ProjectState.POSTED) throw new NotReviseForUnsupportedException("프로젝트가 수정할 수 없는 상태입니다");
-        ReviseProjectSagaData data = new ReviseProjectSagaData(projectId, project.getBoardId(), username, projectRevision, files);
+        ReviseProjectSagaData data = new ReviseProjectSagaData(projectId, project.getBoardId(), username, projectRevision, this.stageAttachments(files));
         this.reviseProjectSagaDataSagaManager.create(data);
         return project;
     }
 
     @Transactional(readOnly = true)
-    public Page<Project> findBySearch(ProjectSearchCondition projectSearchCondition, Pageable pageable) {
+    public Page<ProjectSearchResponse> findBySearch(ProjectSearchCondition projectSearchCondition, Pageable pageable) {
         return this.projectRepository.findBySearch(projectSearchCondition, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<Project> findMyProjects(String username, Pageable pageable) {
+    public Slice<ProjectSearchResponse> findBySearchAfter(ProjectSearchCondition projectSearchCondition, Long after, int size) {
+        return this.projectRepository.findBySearchAfter(projectSearchCondition, after, size);
+    }
+
+    @Transactional(readOnly = true)
+    public SearchCount countBySearch(ProjectSearchCondition projectSearchCondition, SearchCountMode mode) {
+        if(mode != SearchCountMode.ESTIMATED) {
+            return new SearchCount(this.projectRepository.countBySearch(projectSearchCondition), false);
+        }
+        long limit = this.projectSearchConfiguration.getCountLimit();
+        long count = this.projectRepository.countBySearch(projectSearchCondition, limit + 1);
+        return count > limit ? new SearchCount(limit, true) : new SearchCount(count, false);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ProjectSearchResponse> findMyProjects(String username, Pageable pageable) {
         return this.projectRepository.findMyProjects(username, pageable);
     }
 
     @Transactional(readOnly = true)
-    public List<Project> findHotProjects(HotProjectSearchCondition projectSearchCondition) {
-        return this.projectRepository.findHotProjects(projectSearchCondition);
+    public List<HotProjectSearchResponse> findHotProjects(HotProjectSearchCondition condition) {
+        List<RankedItem> ranked = this.hotProjectRanking.top(condition.getCategory(), condition.getMinDate(), condition.getMaxDate(), condition.getSize());
+        if(ranked.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Project> projects = this.projectRepository.findWithBoardByIdIn(ranked.stream().map(RankedItem::getId).collect(Collectors.toList()))
+                .stream().collect(Collectors.toMap(Project::getId, Function.identity()));
+        return ranked.stream().filter(r -> projects.containsKey(r.getId())).map(r -> {
+            Project p = projects.get(r.getId());
+            return new HotProjectSearchResponse(p.getId(), p.getBoard().getSubject(), p.getBoard().getBoardCategory(), p.getProjectState(), r.getCount());
+        }).collect(Collectors.toList());
     }
 
     public void startProject(long projectId, long teamId) {
@@ -164,6 +205,7 @@ public class ProjectService {
     public void registerBoard(long projectId, long boardId, BoardDetail boardDetail) {
         Project project = getProject(projectId);
         project.registerBoard(boardId, boardDetail);
+        this.projectSummaryCache.evict(projectId);
     }
 
     public void registerWeClass(long projectId, long weClassId) {
@@ -188,15 +230,6 @@ public class ProjectService {
         this.getProject(projectId).removeMember(username);
     }
 
-    public void startBatch(Date now) {
-        List<Project> targetBatch = this.projectRepository.findTargetBatch(now);
-        if(targetBatch.size() == 0) {
-            return;
-        }
-        BatchProjectSagaData data = new BatchProjectSagaData(targetBatch.stream().map(Project::getId).collect(Collectors.toList()), targetBatch.stream().map(Project::getBoardId).collect(Collectors.toList()));
-        this.batchProjectSagaDataSagaManager.create(data);
-    }
-
     public boolean batchPending(List<Long> ids) {
         try {
             this.projectRepository.batchPendingUpdate(ids);
@@ -221,15 +254,43 @@ public class ProjectService {
 
     public void addRecommend(long boardId, Date now, long value) {
         Project project = this.projectRepository.findByBoardId(boardId).orElseThrow(() -> new EntityNotFoundException("해당 프로젝트는 존재하지않습니다"));
-        project.getBoard().addRecommend(now, value);
+        long delta = project.getBoard().addRecommend(now, value);
+        if(delta != 0) {
+            this.projectRepository.addRecommendTotal(project.getBoard().getId(), delta);
+        }
+        this.hotProjectRanking.recordAfterCommit(project.getBoard().getBoardCategory(), project.getId(), now, value);
+    }
+
+    public int reconcileRecommendTotal(long fromId, long toId) {
+        return this.projectRepository.reconcileRecommendTotal(fromId, toId);
+    }
+
+    @Transactional(readOnly = true)
+    public long findMaxProjectBoardId() {
+        return this.projectRepository.findMaxProjectBoardId();
     }
 
     @Transactional(readOnly = true)
     public BoardCategory getCategory(long id) {
-        return this.getProject(id).getBoard().getBoardCategory();
+        return this.getSummary(id).getBoardCategory();
+    }
+
+    private ProjectSummary getSummary(long projectId) {
+        return this.projectSummaryCache.get(projectId, id -> ProjectSummary.of(this.projectRepository.findWithBoardById(id)
+                .orElseThrow(() -> new EntityNotFoundException("해당 프로젝트는 존재하지않습니다"))));
     }
 
     private Project getProject(long projectId) {
         return this.projectRepository.findById(projectId).orElseThrow(() -> new EntityNotFoundException("해당 프로젝트는 존재하지않습니다"));
     }
+
+    private List<AttachmentDetail> stageAttachments(MultipartFile[] files) {
+        if(files == null || files.length == 0) return Collections.emptyList();
+        return Arrays.stream(files)
+                .map(f -> {
+                    StagedBlob staged = this.blobStore.stage(f);
+                    return new AttachmentDetail(staged.getStagedId(), staged.getContentId(), f.getOriginalFilename(), f.getContentType(), staged.getSize());
+                })
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,50 @@
+package com.yunseong.project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yunseong.project.config.ProjectCacheConfiguration;
+import com.yunseong.project.domain.ProjectSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Function;
+
+@Component
+public class ProjectSummaryCache {
+
+    private final Cache<Long, ProjectSummary> cache;
+
+    public ProjectSummaryCache(ProjectCacheConfiguration projectCacheConfiguration, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(projectCacheConfiguration.getMaximumSize())
+                .expireAfterWrite(projectCacheConfiguration.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "projectSummary");
+    }
+
+    public ProjectSummary get(long projectId, Function<Long, ProjectSummary> loader) {
+        ProjectSummary summary = this.cache.getIfPresent(projectId);
+        if(summary != null) return summary;
+        summary = loader.apply(projectId);
+        if(summary.getBoardCategory() != null) {
+            this.cache.put(projectId, summary);
+        }
+        return summary;
+    }
+
+    public void evict(long projectId) {
+        this.cache.invalidate(projectId);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(projectId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,27 @@
+create table if not exists schema_migration (
+    name varchar(255) not null,
+    applied_at timestamp not null default current_timestamp,
+    primary key (name)
+) engine=InnoDB;
+
+alter table project_board add column if not exists recommend_total bigint not null default 0;
+
+update project_board b set b.recommend_total = (select coalesce(sum(s.value), 0) from project_recommend_statistics s where s.projectboard_name = b.projectboard_id)
+where not exists (select 1 from schema_migration m where m.name = 'project_board_recommend_total_backfill');
+
+insert ignore into schema_migration (name) values ('project_board_recommend_total_backfill');
+
+create table if not exists scheduler_lease (
+    name varchar(255) not null,
+    owner varchar(255),
+    acquired_at bigint not null,
+    expires_at bigint not null,
+    primary key (name)
+) engine=InnoDB;
+
+create table if not exists project_batch_checkpoint (
+    batch_date date not null,
+    primary key (batch_date)
+) engine=InnoDB;
+
+alter table project_batch_checkpoint drop column if exists last_project_id, drop column if exists in_flight;
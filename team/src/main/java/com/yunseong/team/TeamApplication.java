@@ -2,6 +2,8 @@ package com.yunseong.team;
 
 import com.yunseong.board.config.OAuth2Configuration;
 import com.yunseong.common.CommonConfiguration;
+import com.yunseong.common.lane.LaneConfiguration;
+import com.yunseong.team.config.TeamRetryConfiguration;
 import com.yunseong.team.config.TeamServiceConfiguration;
 import io.eventuate.tram.spring.jdbckafka.TramJdbcKafkaConfiguration;
 import org.springframework.boot.SpringApplication;
@@ -11,10 +13,10 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
-@Import({TramJdbcKafkaConfiguration.class, TeamServiceConfiguration.class, CommonConfiguration.class})
+@Import({TramJdbcKafkaConfiguration.class, TeamServiceConfiguration.class, CommonConfiguration.class, LaneConfiguration.class})
 @EnableJpaAuditing
 @SpringBootApplication(exclude = UserDetailsServiceAutoConfiguration.class)
-@EnableConfigurationProperties(value = { OAuth2Configuration.class })
+@EnableConfigurationProperties(value = { OAuth2Configuration.class, TeamRetryConfiguration.class })
 public class TeamApplication {
 
     public static void main(String[] args) {
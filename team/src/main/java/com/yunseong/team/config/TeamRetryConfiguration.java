@@ -0,0 +1,15 @@
+package com.yunseong.team.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "retry.team")
+public class TeamRetryConfiguration {
+
+    private int maxAttempts = 5;
+    private Duration initialBackoff = Duration.ofMillis(10);
+    private Duration maxBackoff = Duration.ofMillis(200);
+}
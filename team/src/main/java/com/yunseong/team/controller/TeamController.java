@@ -9,6 +9,7 @@ import com.yunseong.project.api.event.TeamMemberDetail;
 import com.yunseong.team.domain.Team;
 import com.yunseong.team.domain.TeamMember;
 import com.yunseong.team.service.TeamService;
+import com.yunseong.team.service.TeamUpdateExecutor;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -31,6 +32,7 @@ import java.util.stream.Collectors;
 public class TeamController {
 
     private final TeamService teamService;
+    private final TeamUpdateExecutor teamUpdateExecutor;
     private final AES256Util aes256Util;
 
 //    @GetMapping(value = "/search")
@@ -48,7 +50,7 @@ public class TeamController {
         if(!decrypt[1].equals(principal.getName())) {
             throw new NotMatchedUsernameException("잘못된 토큰 값입니다.");
         }
-        this.teamService.accept(Long.parseLong(decrypt[0]), decrypt[1]);
+        this.teamUpdateExecutor.execute("accept", () -> this.teamService.accept(Long.parseLong(decrypt[0]), decrypt[1]));
         return ResponseEntity.noContent().build();
     }
 
@@ -59,19 +61,19 @@ public class TeamController {
         if(!decrypt[1].equals(principal.getName())) {
             throw new NotMatchedUsernameException("잘못된 토큰 값입니다.");
         }
-        this.teamService.reject(Long.parseLong(decrypt[0]), decrypt[1]);
+        this.teamUpdateExecutor.execute("reject", () -> this.teamService.reject(Long.parseLong(decrypt[0]), decrypt[1]));
         return ResponseEntity.noContent().build();
     }
 
     @PutMapping(value = "/quit/{id}")
     public ResponseEntity<?> quitTeam(@PathVariable Long id, Principal principal) {
-        this.teamService.quitTeam(id, principal.getName());
+        this.teamUpdateExecutor.execute("quit", () -> this.teamService.quitTeam(id, principal.getName()));
         return ResponseEntity.noContent().build();
     }
 
     @PutMapping(value = "/join/{id}")
     public ResponseEntity<Long> joinTeam(@PathVariable Long id, Principal principal) {
-        Team team = this.teamService.joinTeam(id, principal.getName());
+        Team team = this.teamUpdateExecutor.execute("join", () -> this.teamService.joinTeam(id, principal.getName()));
         return ResponseEntity.ok(team.getId());
     }
 
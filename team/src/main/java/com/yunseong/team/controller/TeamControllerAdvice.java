@@ -4,6 +4,8 @@ import com.yunseong.common.AlreadyExistedEntityException;
 import com.yunseong.common.NotMatchedCryptException;
 import com.yunseong.common.UnsupportedStateTransitionException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Errors;
@@ -56,4 +58,11 @@ public class TeamControllerAdvice {
         errors.reject("unsupportedState", exception.getMessage());
         return ResponseEntity.badRequest().body(errors.getAllErrors());
     }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception) {
+        Errors errors = new BeanPropertyBindingResult(null, "");
+        errors.reject("conflict", "다른 요청과 충돌했습니다. 잠시 후 다시 시도해주세요.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errors.getAllErrors());
+    }
 }
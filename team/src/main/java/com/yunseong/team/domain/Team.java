@@ -11,9 +11,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Entity
@@ -36,6 +34,9 @@ public class Team {
     @Enumerated(EnumType.STRING)
     private TeamState teamState;
 
+    @Version
+    private long version;
+
     @CreatedDate
     private LocalDateTime createdTime;
 
@@ -45,27 +46,34 @@ public class Team {
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "team", cascade = CascadeType.ALL)
     private final List<TeamMember> teamMembers = new ArrayList<>();
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private Map<String, TeamMember> memberIndex;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private int[] stateCounts;
+
     public Team(long projectId, String username, int minSize, int maxSize) {
         this.projectId = projectId;
         this.minSize = minSize;
         this.maxSize = maxSize;
         this.teamState = TeamState.RECRUIT_PENDING;
-        this.teamMembers.add(new TeamMember(this, new TeamMemberDetail(username, TeamPermission.LEADER)));
+        this.addMember(new TeamMemberDetail(username, TeamPermission.LEADER));
     }
 
     public List<TeamEvent> join(String username) {
         if (teamState == TeamState.RECRUIT_PENDING) {
-            if (this.teamMembers.stream().filter(tm -> tm.getTeamMemberDetail().getUsername().equals(username)).count() >= 1) {
+            if (this.isUser(username)) {
                 throw new TeamMemberReduplicationException(username + "유저는 이미 팀내에 존재합니다");
             }
-            this.teamMembers.add(new TeamMember(this, new TeamMemberDetail(username, TeamPermission.USER)));
+            this.addMember(new TeamMemberDetail(username, TeamPermission.USER));
+            List<TeamMemberDetail> teamMemberDetails = this.teamMemberDetails();
             if (this.getSize() == this.maxSize) {
                 this.teamState = TeamState.VOTE_PENDING;
-                return List.of(new TeamJoinedEvent(this.projectId, username
-                        , this.teamMembers.stream().map(TeamMember::getTeamMemberDetail).collect(Collectors.toList())), new TeamAuthorizeVoteRequestedEvent(this.projectId, this.teamMembers.stream().map(TeamMember::getTeamMemberDetail).collect(Collectors.toList())));
+                return List.of(new TeamJoinedEvent(this.projectId, username, teamMemberDetails), new TeamAuthorizeVoteRequestedEvent(this.projectId, teamMemberDetails));
             }
-            return Collections.singletonList(new TeamJoinedEvent(this.projectId, username
-                    , this.teamMembers.stream().map(TeamMember::getTeamMemberDetail).collect(Collectors.toList())));
+            return Collections.singletonList(new TeamJoinedEvent(this.projectId, username, teamMemberDetails));
         }
         throw new UnsupportedStateTransitionException(this.teamState);
     }
@@ -79,10 +87,7 @@ public class Team {
     }
 
     public boolean voted() {
-        int count = 0;
-        for (TeamMember teamMember : this.teamMembers) {
-            if(teamMember.getTeamMemberDetail().getTeamMemberState() == TeamMemberState.APPROVED) count++;
-        }
+        int count = this.count(TeamMemberState.APPROVED);
         return this.minSize <= count && this.maxSize >= count;
     }
 
@@ -95,7 +100,7 @@ public class Team {
             this.teamState = TeamState.APPROVED;
             for (TeamMember teamMember : this.teamMembers) {
                 if (teamMember.getTeamMemberDetail().getTeamMemberState() == TeamMemberState.APPROVED)
-                    teamMember.getTeamMemberDetail().setTeamMemberState(TeamMemberState.JOINED);
+                    this.changeState(teamMember.getTeamMemberDetail(), TeamMemberState.JOINED);
             }
             return;
         }
@@ -114,30 +119,22 @@ public class Team {
     }
 
     private boolean changeMemberState(String username, TeamMemberState teamMemberState) {
-        for (TeamMember teamMember : this.teamMembers) {
-            TeamMemberDetail teamMemberDetail = teamMember.getTeamMemberDetail();
-            if(teamMemberDetail.getUsername().equals(username)) {
-                if(teamMemberDetail.getTeamMemberState() != TeamMemberState.JOIN_PENDING)
-                    return false;
-                teamMemberDetail.setTeamMemberState(teamMemberState);
-                return true;
-            }
-        }
-        return false;
+        TeamMember teamMember = this.memberIndex().get(username);
+        if(teamMember == null || teamMember.getTeamMemberDetail().getTeamMemberState() != TeamMemberState.JOIN_PENDING)
+            return false;
+        this.changeState(teamMember.getTeamMemberDetail(), teamMemberState);
+        return true;
     }
 
     public List<TeamEvent> memberQuit(String username) {
         if (this.teamState == TeamState.RECRUIT_PENDING) {
-            for (int i = 0; i < this.teamMembers.size(); i++) {
-                TeamMemberDetail teamMemberDetail = teamMembers.get(i).getTeamMemberDetail();
-                if (teamMemberDetail.getUsername().equals(username)) {
-                    if (teamMemberDetail.getTeamMemberState() != TeamMemberState.JOIN_PENDING)
-                        return Collections.emptyList();
-                    this.getTeamMembers().remove(teamMembers.get(i));
-                }
+            TeamMember teamMember = this.memberIndex().get(username);
+            if (teamMember != null) {
+                if (teamMember.getTeamMemberDetail().getTeamMemberState() != TeamMemberState.JOIN_PENDING)
+                    return Collections.emptyList();
+                this.removeMember(teamMember);
             }
-            return Collections.singletonList(new TeamQuitEvent(this.projectId, username
-                    , this.teamMembers.stream().map(TeamMember::getTeamMemberDetail).collect(Collectors.toList())));
+            return Collections.singletonList(new TeamQuitEvent(this.projectId, username, this.teamMemberDetails()));
         }
         throw new UnsupportedStateTransitionException(this.teamState);
     }
@@ -161,18 +158,12 @@ public class Team {
     }
 
     public boolean isUser(String username) {
-        for (TeamMember teamMember : this.teamMembers) {
-            if(teamMember.getTeamMemberDetail().getUsername().equals(username)) return true;
-        }
-        return false;
+        return this.memberIndex().containsKey(username);
     }
 
     public boolean isLeader(String username) {
-        for (TeamMember teamMember : this.teamMembers) {
-            TeamMemberDetail teamMemberDetail = teamMember.getTeamMemberDetail();
-            if(teamMemberDetail.getUsername().equals(username) && teamMemberDetail.getTeamPermission().equals(TeamPermission.LEADER)) return true;
-        }
-        return false;
+        TeamMember teamMember = this.memberIndex().get(username);
+        return teamMember != null && teamMember.getTeamMemberDetail().getTeamPermission() == TeamPermission.LEADER;
     }
 
 //    public void setProject(long projectId) {
@@ -187,18 +178,56 @@ public class Team {
 //    }
 
     private List<TeamEvent> isAllVoted() {
-        for(TeamMember teamMember : this.teamMembers) {
-            if(teamMember.getTeamMemberDetail().getTeamMemberState() == TeamMemberState.JOIN_PENDING) return Collections.emptyList();
-        }
+        if(this.count(TeamMemberState.JOIN_PENDING) > 0) return Collections.emptyList();
         this.teamState = TeamState.VOTED;
         return Collections.singletonList(new TeamVotedEvent(this.projectId, this.id));
     }
 
     private int getSize() {
-        int size = 0;
-        for(TeamMember teamMember : this.teamMembers) {
-            if(teamMember.getTeamMemberDetail().getTeamMemberState() == TeamMemberState.JOIN_PENDING) size++;
+        return this.count(TeamMemberState.JOIN_PENDING);
+    }
+
+    private List<TeamMemberDetail> teamMemberDetails() {
+        return this.teamMembers.stream().map(TeamMember::getTeamMemberDetail).collect(Collectors.toList());
+    }
+
+    private void addMember(TeamMemberDetail teamMemberDetail) {
+        TeamMember teamMember = new TeamMember(this, teamMemberDetail);
+        this.memberIndex().put(teamMemberDetail.getUsername(), teamMember);
+        this.stateCounts[teamMemberDetail.getTeamMemberState().ordinal()]++;
+        this.teamMembers.add(teamMember);
+    }
+
+    private void removeMember(TeamMember teamMember) {
+        TeamMemberDetail teamMemberDetail = teamMember.getTeamMemberDetail();
+        this.memberIndex().remove(teamMemberDetail.getUsername());
+        this.stateCounts[teamMemberDetail.getTeamMemberState().ordinal()]--;
+        this.teamMembers.remove(teamMember);
+    }
+
+    private void changeState(TeamMemberDetail teamMemberDetail, TeamMemberState teamMemberState) {
+        this.memberIndex();
+        this.stateCounts[teamMemberDetail.getTeamMemberState().ordinal()]--;
+        this.stateCounts[teamMemberState.ordinal()]++;
+        teamMemberDetail.setTeamMemberState(teamMemberState);
+    }
+
+    private int count(TeamMemberState teamMemberState) {
+        this.memberIndex();
+        return this.stateCounts[teamMemberState.ordinal()];
+    }
+
+    private Map<String, TeamMember> memberIndex() {
+        if (this.memberIndex == null) {
+            Map<String, TeamMember> memberIndex = new HashMap<>();
+            int[] stateCounts = new int[TeamMemberState.values().length];
+            for (TeamMember teamMember : this.teamMembers) {
+                memberIndex.put(teamMember.getTeamMemberDetail().getUsername(), teamMember);
+                stateCounts[teamMember.getTeamMemberDetail().getTeamMemberState().ordinal()]++;
+            }
+            this.memberIndex = memberIndex;
+            this.stateCounts = stateCounts;
         }
-        return size;
+        return this.memberIndex;
     }
 }
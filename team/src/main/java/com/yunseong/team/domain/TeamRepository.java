@@ -3,10 +3,12 @@ package com.yunseong.team.domain;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,14 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     @Query("select distinct t from Team t join fetch t.teamMembers tm where t.id = :id")
     Optional<Team> findFetchByTeamId(long id);
 
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select t from Team t where t.id = :id")
+    Optional<Team> findForUpdateById(long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Team t where t.id = :id")
+    Optional<Team> findLockedById(long id);
+
     @Modifying
     @Query("update Team t set t.teamState = 'RECRUIT_PENDING' where t.id in(:ids)")
     void batchUndoUpdate(List<Long> ids);
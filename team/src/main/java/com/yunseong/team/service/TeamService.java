@@ -40,7 +40,7 @@ public class TeamService {
     }
 
     public Team updateTeam(long teamId, String username, BiFunction<Team, String, List<TeamEvent>> handler) throws EntityNotFoundException {
-        Team team = getTeamByTeamId(teamId);
+        Team team = getTeamForUpdate(teamId);
         isUser(team, username);
         List<TeamEvent> events = handler.apply(team, username);
         this.teamDomainEventPublisher.publish(team, events);
@@ -60,7 +60,7 @@ public class TeamService {
     }
 
     public Team joinTeam(long teamId, String username) throws EntityNotFoundException {
-        Team team = getTeamByTeamId(teamId);
+        Team team = getTeamForUpdate(teamId);
         if(team.isUser(username)) throw new AlreadyExistedEntityException("이미 팀에 가입되어있습니다");
         this.teamDomainEventPublisher.publish(team, team.join(username));
         return team;
@@ -68,7 +68,7 @@ public class TeamService {
 
     public boolean cancel(long teamId) {
         try {
-            Team team = this.getTeamByTeamId(teamId);
+            Team team = this.getLockedTeam(teamId);
             team.cancel();
             return true;
         }catch (UnsupportedStateTransitionException e) {
@@ -78,7 +78,7 @@ public class TeamService {
 
     public boolean approveTeam(long teamId) {
         try {
-            Team team = this.getTeamByTeamId(teamId);
+            Team team = this.getLockedTeam(teamId);
             team.approveTeam();
             return true;
         } catch(TeamRejectException e) {
@@ -87,7 +87,7 @@ public class TeamService {
     }
 
     public void rejectTeam(long teamId) {
-        Team team = this.getTeamByTeamId(teamId);
+        Team team = this.getLockedTeam(teamId);
         team.rejectTeam();
     }
 
@@ -117,6 +117,14 @@ public class TeamService {
 //        return this.teamRepository.findByProjectId(projectId).orElseThrow(() -> new EntityNotFoundException("해당 프로젝트는 존재하지 않습니다."));
 //    }
 
+    private Team getTeamForUpdate(long teamId) {
+        return this.teamRepository.findForUpdateById(teamId).orElseThrow(() -> new EntityNotFoundException("해당 프로젝트는 존재하지 않습니다."));
+    }
+
+    private Team getLockedTeam(long teamId) {
+        return this.teamRepository.findLockedById(teamId).orElseThrow(() -> new EntityNotFoundException("해당 프로젝트는 존재하지 않습니다."));
+    }
+
     private Team getTeamByTeamId(long teamId) {
         return this.teamRepository.findById(teamId).orElseThrow(() -> new EntityNotFoundException("해당 프로젝트는 존재하지 않습니다."));
     }
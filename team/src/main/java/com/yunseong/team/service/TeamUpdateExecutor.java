@@ -0,0 +1,58 @@
+package com.yunseong.team.service;
+
+import com.yunseong.team.config.TeamRetryConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Component
+public class TeamUpdateExecutor {
+
+    private final int maxAttempts;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final MeterRegistry meterRegistry;
+
+    public TeamUpdateExecutor(TeamRetryConfiguration teamRetryConfiguration, MeterRegistry meterRegistry) {
+        this.maxAttempts = Math.max(1, teamRetryConfiguration.getMaxAttempts());
+        this.initialBackoff = Math.max(1, teamRetryConfiguration.getInitialBackoff().toMillis());
+        this.maxBackoff = Math.max(this.initialBackoff, teamRetryConfiguration.getMaxBackoff().toMillis());
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, Supplier<T> update) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return update.get();
+            } catch (OptimisticLockingFailureException e) {
+                this.meterRegistry.counter("team.update.conflicts", "operation", operation).increment();
+                if (attempt >= this.maxAttempts) {
+                    this.meterRegistry.counter("team.update.exhausted", "operation", operation).increment();
+                    throw e;
+                }
+                this.meterRegistry.counter("team.update.retries", "operation", operation).increment();
+                this.backoff(attempt);
+            }
+        }
+    }
+
+    public void execute(String operation, Runnable update) {
+        this.execute(operation, () -> {
+            update.run();
+            return null;
+        });
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(this.maxBackoff, this.initialBackoff << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+}